@@ -0,0 +1,73 @@
+package com.femi.benchmarks;
+
+import com.femi.eventservice.model.Event;
+import com.femi.eventservice.model.EventStatus;
+import com.femi.userservice.config.JwtService;
+import com.femi.userservice.model.Role;
+import com.femi.userservice.model.User;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+
+import java.lang.reflect.Field;
+import java.lang.reflect.Method;
+import java.math.BigDecimal;
+import java.time.LocalDateTime;
+
+final class Fixtures {
+
+    private Fixtures() {
+    }
+
+    static User user() {
+        LocalDateTime now = LocalDateTime.now();
+        return User.builder()
+                .id(42L)
+                .username("jane")
+                .email("jane@example.com")
+                .password("$2a$10$7EqJtq98hPqEX7fNZaFWoOhi5BWX4Z9oRVSp8yZg4NkQ9C2z8Zk0e")
+                .role(Role.USER)
+                .createdAt(now)
+                .updatedAt(now)
+                .build();
+    }
+
+    static Event event(int seats) {
+        LocalDateTime now = LocalDateTime.now();
+        return Event.builder()
+                .id(7L)
+                .name("Summer Festival")
+                .description("An open-air festival with three stages and food trucks from all over town.")
+                .venue("Central Park")
+                .eventDateTime(now.plusDays(30))
+                .totalSeats(seats)
+                .availableSeats(seats)
+                .ticketPrice(new BigDecimal("49.99"))
+                .status(EventStatus.ACTIVE)
+                .createdAt(now)
+                .updatedAt(now)
+                .organizerId(1L)
+                .organizerName("femmie")
+                .organizerEmail("organizer@example.com")
+                .build();
+    }
+
+    static JwtService jwtService() {
+        try {
+            JwtService jwtService = new JwtService(new SimpleMeterRegistry());
+            set(jwtService, "encodedPrivateKey", "");
+            set(jwtService, "encodedPublicKey", "");
+            set(jwtService, "expiration", 86_400_000L);
+            Method init = JwtService.class.getDeclaredMethod("init");
+            init.setAccessible(true);
+            init.invoke(jwtService);
+            return jwtService;
+        } catch (ReflectiveOperationException e) {
+            throw new IllegalStateException("Could not create JwtService", e);
+        }
+    }
+
+    private static void set(Object target, String name, Object value) throws ReflectiveOperationException {
+        Field field = target.getClass().getDeclaredField(name);
+        field.setAccessible(true);
+        field.set(target, value);
+    }
+}
@@ -0,0 +1,71 @@
+package com.femi.benchmarks;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.SerializationFeature;
+import com.femi.eventservice.model.Event;
+import com.femi.userservice.dto.ApiResponseData;
+import com.femi.userservice.dto.UserDTO;
+import com.femi.userservice.model.User;
+import org.openjdk.jmh.annotations.*;
+
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+@State(Scope.Benchmark)
+public class JsonSerializationBenchmark {
+
+    private ObjectMapper objectMapper;
+    private Event event;
+    private List<Event> catalog;
+    private ApiResponseData<UserDTO> userResponse;
+
+    @Setup
+    public void setUp() {
+        // Same setup Spring Boot applies to its auto-configured ObjectMapper.
+        objectMapper = new ObjectMapper()
+                .findAndRegisterModules()
+                .disable(SerializationFeature.WRITE_DATES_AS_TIMESTAMPS);
+        event = Fixtures.event(500);
+        catalog = new ArrayList<>();
+        for (int i = 0; i < 100; i++) {
+            catalog.add(Fixtures.event(500));
+        }
+
+        User user = Fixtures.user();
+        userResponse = ApiResponseData.<UserDTO>builder()
+                .success(true)
+                .message("Token validated successfully")
+                .data(UserDTO.builder()
+                        .id(user.getId())
+                        .username(user.getActualUsername())
+                        .email(user.getEmail())
+                        .role(user.getRole())
+                        .createdAt(user.getCreatedAt())
+                        .updatedAt(user.getUpdatedAt())
+                        .build())
+                .timestamp(LocalDateTime.now())
+                .build();
+    }
+
+    @Benchmark
+    public byte[] event() throws Exception {
+        return objectMapper.writeValueAsBytes(event);
+    }
+
+    @Benchmark
+    public byte[] eventCatalog() throws Exception {
+        return objectMapper.writeValueAsBytes(catalog);
+    }
+
+    @Benchmark
+    public byte[] apiResponseData() throws Exception {
+        return objectMapper.writeValueAsBytes(userResponse);
+    }
+}
@@ -0,0 +1,99 @@
+package com.femi.benchmarks;
+
+import com.femi.userservice.config.HashingPasswordEncoder;
+import com.femi.userservice.config.JwtService;
+import com.femi.userservice.model.User;
+import org.openjdk.jmh.annotations.*;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.springframework.security.crypto.bcrypt.BCryptPasswordEncoder;
+import org.springframework.security.crypto.password.PasswordEncoder;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.concurrent.locks.LockSupport;
+
+@BenchmarkMode(Mode.SampleTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 2, time = 3)
+@Measurement(iterations = 5, time = 3)
+@Fork(1)
+@State(Scope.Benchmark)
+public class LoginStormBenchmark {
+
+    @Param({"request-thread", "hashing-pool"})
+    public String mode;
+
+    @Param({"64"})
+    public int stormThreads;
+
+    @Param({"10"})
+    public int bcryptStrength;
+
+    private JwtService jwtService;
+    private User user;
+    private String token;
+    private PasswordEncoder encoder;
+    private ExecutorService requests;
+    private final List<Thread> storm = new ArrayList<>();
+    private final LongAdder logins = new LongAdder();
+    private final LongAdder rejected = new LongAdder();
+    private volatile boolean running;
+    private long startedAt;
+
+    @Setup(Level.Trial)
+    public void setUp() {
+        jwtService = Fixtures.jwtService();
+        user = Fixtures.user();
+        token = jwtService.generateToken(user);
+
+        BCryptPasswordEncoder bcrypt = new BCryptPasswordEncoder(bcryptStrength);
+        String hash = bcrypt.encode("Secret123!");
+        encoder = "hashing-pool".equals(mode) ? new HashingPasswordEncoder(bcrypt, 0, 64, new SimpleMeterRegistry()) : bcrypt;
+        requests = Executors.newVirtualThreadPerTaskExecutor();
+
+        running = true;
+        startedAt = System.nanoTime();
+        for (int i = 0; i < stormThreads; i++) {
+            storm.add(Thread.ofVirtual().name("client-" + i).start(() -> {
+                while (running) {
+                    try {
+                        if (requests.submit(() -> encoder.matches("Secret123!", hash)).get()) {
+                            logins.increment();
+                        }
+                    } catch (ExecutionException e) {
+                        rejected.increment();
+                        LockSupport.parkNanos(TimeUnit.MILLISECONDS.toNanos(1));
+                    } catch (InterruptedException | RejectedExecutionException e) {
+                        return;
+                    }
+                }
+            }));
+        }
+    }
+
+    @TearDown(Level.Trial)
+    public void tearDown() throws InterruptedException {
+        running = false;
+        for (Thread thread : storm) {
+            thread.join();
+        }
+        requests.shutdownNow();
+        if (encoder instanceof HashingPasswordEncoder pool) {
+            pool.close();
+        }
+        double seconds = (System.nanoTime() - startedAt) / 1e9;
+        System.out.printf("%n%s mode: %.0f logins/s, %d rejected with 503%n", mode,
+                logins.sum() / seconds, rejected.sum());
+    }
+
+    @Benchmark
+    public boolean validate() throws Exception {
+        return requests.submit(() -> jwtService.isTokenValid(token, user)).get();
+    }
+}
@@ -0,0 +1,52 @@
+package com.femi.benchmarks;
+
+import com.femi.eventservice.model.Event;
+import org.openjdk.jmh.annotations.*;
+
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.locks.ReentrantLock;
+
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+@State(Scope.Benchmark)
+public class SeatBookingBenchmark {
+
+    private static final int SEATS = 10_000;
+
+    private Event event;
+    private ReentrantLock rowLock;
+
+    @Setup(Level.Iteration)
+    public void setUp() {
+        event = Fixtures.event(SEATS);
+        rowLock = new ReentrantLock();
+    }
+
+    @Benchmark
+    @Threads(1)
+    public boolean uncontended() {
+        return bookOne();
+    }
+
+    @Benchmark
+    @Threads(8)
+    public boolean contended8Threads() {
+        return bookOne();
+    }
+
+    private boolean bookOne() {
+        rowLock.lock();
+        try {
+            if (event.bookSeats(1)) {
+                return true;
+            }
+            event.releaseSeats(event.getTotalSeats());
+            return false;
+        } finally {
+            rowLock.unlock();
+        }
+    }
+}
@@ -0,0 +1,73 @@
+package com.femi.benchmarks;
+
+import com.femi.userservice.dto.UserDTO;
+import com.femi.userservice.mapper.UserMapper;
+import com.femi.userservice.model.User;
+import org.mapstruct.factory.Mappers;
+import org.modelmapper.ModelMapper;
+import org.modelmapper.convention.MatchingStrategies;
+import org.openjdk.jmh.annotations.*;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+@State(Scope.Benchmark)
+public class UserMappingBenchmark {
+
+    private ModelMapper modelMapper;
+    private UserMapper userMapper;
+    private User user;
+    private List<User> users;
+
+    @Setup
+    public void setUp() {
+        modelMapper = legacyModelMapper();
+        userMapper = Mappers.getMapper(UserMapper.class);
+        user = Fixtures.user();
+        users = new ArrayList<>();
+        for (int i = 0; i < 100; i++) {
+            users.add(Fixtures.user());
+        }
+    }
+
+    @Benchmark
+    public UserDTO modelMapper() {
+        return modelMapper.map(user, UserDTO.class);
+    }
+
+    @Benchmark
+    public UserDTO mapStruct() {
+        return userMapper.toDto(user);
+    }
+
+    @Benchmark
+    public List<UserDTO> modelMapperList() {
+        return users.stream().map(u -> modelMapper.map(u, UserDTO.class)).toList();
+    }
+
+    @Benchmark
+    public List<UserDTO> mapStructList() {
+        return userMapper.toDtos(users);
+    }
+
+    private static ModelMapper legacyModelMapper() {
+        ModelMapper mapper = new ModelMapper();
+        mapper.getConfiguration()
+                .setMatchingStrategy(MatchingStrategies.STRICT)
+                .setFieldMatchingEnabled(true)
+                .setFieldAccessLevel(org.modelmapper.config.Configuration.AccessLevel.PRIVATE);
+        mapper.createTypeMap(User.class, UserDTO.class)
+                .addMappings(mapping -> mapping.skip(UserDTO::setId))
+                .setPostConverter(context -> {
+                    context.getDestination().setId(context.getSource().getId());
+                    return context.getDestination();
+                });
+        return mapper;
+    }
+}
@@ -0,0 +1,68 @@
+package com.femi.benchmarks;
+
+import org.openjdk.jmh.annotations.*;
+import org.openjdk.jmh.infra.Blackhole;
+
+import java.lang.management.ManagementFactory;
+import java.lang.management.ThreadMXBean;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+@State(Scope.Benchmark)
+public class VirtualThreadBenchmark {
+
+    private static final int TOMCAT_MAX_THREADS = 200;
+
+    @Param({"platform", "virtual"})
+    public String mode;
+
+    @Param({"2000"})
+    public int concurrentRequests;
+
+    @Param({"20"})
+    public int downstreamLatencyMs;
+
+    private ExecutorService executor;
+    private ThreadMXBean threads;
+
+    @Setup(Level.Trial)
+    public void setUp() {
+        executor = "virtual".equals(mode)
+                ? Executors.newVirtualThreadPerTaskExecutor()
+                : Executors.newFixedThreadPool(TOMCAT_MAX_THREADS);
+        threads = ManagementFactory.getThreadMXBean();
+        threads.resetPeakThreadCount();
+    }
+
+    @TearDown(Level.Trial)
+    public void tearDown() {
+        executor.shutdownNow();
+        System.out.printf("%n%s mode: peak platform threads %d, heap used %d MB%n", mode,
+                threads.getPeakThreadCount(),
+                ManagementFactory.getMemoryMXBean().getHeapMemoryUsage().getUsed() / (1024 * 1024));
+    }
+
+    @Benchmark
+    public void requestBurst(Blackhole blackhole) throws Exception {
+        List<Future<Integer>> futures = new ArrayList<>(concurrentRequests);
+        for (int i = 0; i < concurrentRequests; i++) {
+            int request = i;
+            futures.add(executor.submit(() -> {
+                Thread.sleep(downstreamLatencyMs);
+                return request * 31;
+            }));
+        }
+        for (Future<Integer> future : futures) {
+            blackhole.consume(future.get());
+        }
+    }
+}
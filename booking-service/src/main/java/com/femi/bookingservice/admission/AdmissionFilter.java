@@ -0,0 +1,100 @@
+package com.femi.bookingservice.admission;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.femi.bookingservice.config.JwtVerifier;
+import com.femi.bookingservice.dto.ApiResponseData;
+import com.femi.bookingservice.dto.UserDto;
+import com.femi.common.admission.AdmissionControl;
+import com.femi.common.exceptions.TooManyRequestsException;
+import io.github.resilience4j.bulkhead.Bulkhead;
+import jakarta.servlet.FilterChain;
+import jakarta.servlet.ServletException;
+import jakarta.servlet.http.HttpServletRequest;
+import jakarta.servlet.http.HttpServletResponse;
+import lombok.NonNull;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.core.Ordered;
+import org.springframework.core.annotation.Order;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.MediaType;
+import org.springframework.stereotype.Component;
+import org.springframework.web.filter.OncePerRequestFilter;
+
+import java.io.IOException;
+import java.time.LocalDateTime;
+
+@Component
+@Order(Ordered.HIGHEST_PRECEDENCE + 10)
+@RequiredArgsConstructor
+@Slf4j
+public class AdmissionFilter extends OncePerRequestFilter {
+
+    private final AdmissionControl admissionControl;
+    private final JwtVerifier jwtVerifier;
+    private final ObjectMapper objectMapper;
+
+    @Override
+    protected boolean shouldNotFilter(@NonNull HttpServletRequest request) {
+        String path = request.getServletPath();
+        return !path.startsWith("/api/bookings") && !path.startsWith("/api/waitlist");
+    }
+
+    @Override
+    protected void doFilterInternal(
+            @NonNull HttpServletRequest request,
+            @NonNull HttpServletResponse response,
+            @NonNull FilterChain filterChain
+    ) throws ServletException, IOException {
+        try {
+            admissionControl.acquire("client-ip", request.getRemoteAddr());
+            UserDto user = user(request);
+            if (user != null) {
+                request.setAttribute(JwtVerifier.VERIFIED_USER, user);
+                admissionControl.acquire("user", user.getId().toString());
+            }
+        } catch (TooManyRequestsException e) {
+            log.warn("Rate limited {} {} from {}", request.getMethod(), request.getServletPath(), request.getRemoteAddr());
+            reject(response, HttpStatus.TOO_MANY_REQUESTS, e.getRetryAfterSeconds(), e.getMessage());
+            return;
+        }
+
+        String name = "GET".equals(request.getMethod()) ? "booking-read" : "booking-write";
+        Bulkhead bulkhead = admissionControl.bulkhead(name);
+        if (!bulkhead.tryAcquirePermission()) {
+            log.warn("Shed {} {}: bulkhead {} is full", request.getMethod(), request.getServletPath(), name);
+            reject(response, HttpStatus.SERVICE_UNAVAILABLE, 1, "Server is busy, try again shortly");
+            return;
+        }
+        try {
+            filterChain.doFilter(request, response);
+        } finally {
+            bulkhead.onComplete();
+        }
+    }
+
+    private UserDto user(HttpServletRequest request) {
+        String authHeader = request.getHeader(HttpHeaders.AUTHORIZATION);
+        if (authHeader == null) {
+            return null;
+        }
+        try {
+            UserDto user = jwtVerifier.verify(authHeader);
+            return user.getId() != null ? user : null;
+        } catch (RuntimeException e) {
+            return null;
+        }
+    }
+
+    private void reject(HttpServletResponse response, HttpStatus status, long retryAfterSeconds, String message) throws IOException {
+        response.setStatus(status.value());
+        response.setHeader(HttpHeaders.RETRY_AFTER, String.valueOf(retryAfterSeconds));
+        response.setContentType(MediaType.APPLICATION_JSON_VALUE);
+        objectMapper.writeValue(response.getOutputStream(), ApiResponseData.<Void>builder()
+                .success(false)
+                .message(message)
+                .timestamp(LocalDateTime.now())
+                .build());
+    }
+}
@@ -0,0 +1,112 @@
+package com.femi.bookingservice.client;
+
+import com.femi.bookingservice.dto.EventDto;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+import java.util.Map;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.TimeUnit;
+
+@Component
+public class EventLookup {
+
+    private final EventServiceClient eventServiceClient;
+    private final Map<Long, Flight> flights = new ConcurrentHashMap<>();
+    private final long ttlNanos;
+    private final Counter calls;
+    private final Counter shared;
+    private final Counter cached;
+
+    public EventLookup(EventServiceClient eventServiceClient,
+                       MeterRegistry meterRegistry,
+                       @Value("${booking.event-lookup.ttl-ms:1000}") long ttlMs) {
+        this.eventServiceClient = eventServiceClient;
+        this.ttlNanos = TimeUnit.MILLISECONDS.toNanos(ttlMs);
+        this.calls = lookups(meterRegistry, "call");
+        this.shared = lookups(meterRegistry, "shared");
+        this.cached = lookups(meterRegistry, "cached");
+        Gauge.builder("booking.event.lookups.collapse.ratio", this, EventLookup::collapseRatio)
+                .description("Share of event lookups answered without a call to event-service")
+                .register(meterRegistry);
+    }
+
+    public EventDto getEvent(Long eventId) {
+        while (true) {
+            Flight current = flights.get(eventId);
+            if (current != null && !current.isStale(System.nanoTime())) {
+                (current.result.isDone() ? cached : shared).increment();
+                return await(current);
+            }
+
+            Flight mine = new Flight();
+            boolean claimed = current == null ? flights.putIfAbsent(eventId, mine) == null : flights.replace(eventId, current, mine);
+            if (!claimed) {
+                continue;
+            }
+
+            calls.increment();
+            try {
+                EventDto event = eventServiceClient.getEventById(eventId).getBody();
+                mine.completedAt = System.nanoTime();
+                mine.result.complete(event);
+                return event;
+            } catch (Throwable e) {
+                flights.remove(eventId, mine);
+                mine.result.completeExceptionally(e);
+                throw e;
+            }
+        }
+    }
+
+    public void invalidate(Long eventId) {
+        flights.computeIfPresent(eventId, (id, flight) -> flight.result.isDone() ? null : flight);
+    }
+
+    public double collapseRatio() {
+        double total = calls.count() + shared.count() + cached.count();
+        return total == 0 ? 0 : 1 - calls.count() / total;
+    }
+
+    @Scheduled(fixedDelayString = "${booking.event-lookup.purge-interval-ms:60000}")
+    public void purge() {
+        long now = System.nanoTime();
+        flights.entrySet().removeIf(entry -> entry.getValue().isStale(now));
+    }
+
+    private static EventDto await(Flight flight) {
+        try {
+            return flight.result.join();
+        } catch (CompletionException e) {
+            if (e.getCause() instanceof RuntimeException cause) {
+                throw cause;
+            }
+            if (e.getCause() instanceof Error cause) {
+                throw cause;
+            }
+            throw e;
+        }
+    }
+
+    private static Counter lookups(MeterRegistry meterRegistry, String outcome) {
+        return Counter.builder("booking.event.lookups")
+                .description("Event lookups by how they were answered")
+                .tag("outcome", outcome)
+                .register(meterRegistry);
+    }
+
+    private final class Flight {
+        private final CompletableFuture<EventDto> result = new CompletableFuture<>();
+        private volatile long completedAt;
+
+        private boolean isStale(long now) {
+            return result.isDone() && (result.isCompletedExceptionally() || now - completedAt >= ttlNanos);
+        }
+    }
+}
@@ -6,7 +6,7 @@ import org.springframework.http.ResponseEntity;
 import org.springframework.web.bind.annotation.GetMapping;
 import org.springframework.web.bind.annotation.PathVariable;
 
-@FeignClient(name = "event-service", url = "${event-service.url}")
+@FeignClient(name = "event-service", qualifiers = "eventServiceFeignClient", primary = false)
 public interface EventServiceClient {
 
     @GetMapping("/api/events/{eventId}")
@@ -0,0 +1,28 @@
+package com.femi.bookingservice.client;
+
+import java.util.LinkedHashMap;
+import java.util.Map;
+
+public class LastKnownGood<K, V> {
+
+    private final Map<K, V> values;
+
+    public LastKnownGood(int maxSize) {
+        this.values = new LinkedHashMap<>(16, 0.75f, true) {
+            @Override
+            protected boolean removeEldestEntry(Map.Entry<K, V> eldest) {
+                return size() > maxSize;
+            }
+        };
+    }
+
+    public synchronized void put(K key, V value) {
+        if (value != null) {
+            values.put(key, value);
+        }
+    }
+
+    public synchronized V get(K key) {
+        return values.get(key);
+    }
+}
@@ -0,0 +1,47 @@
+package com.femi.bookingservice.client;
+
+import com.femi.bookingservice.dto.EventDto;
+import com.femi.common.client.DownstreamGuard;
+import com.femi.common.exceptions.ServiceUnavailableException;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Qualifier;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.context.annotation.Primary;
+import org.springframework.http.ResponseEntity;
+import org.springframework.stereotype.Component;
+
+@Component
+@Primary
+@Slf4j
+public class ResilientEventServiceClient implements EventServiceClient {
+
+    static final String SERVICE = "event-service";
+
+    private final EventServiceClient delegate;
+    private final DownstreamGuard guard;
+    private final LastKnownGood<Long, EventDto> events;
+
+    public ResilientEventServiceClient(@Qualifier("eventServiceFeignClient") EventServiceClient delegate,
+                                       DownstreamGuard guard,
+                                       @Value("${booking.client.last-known-size:10000}") int lastKnownSize) {
+        this.delegate = delegate;
+        this.guard = guard;
+        this.events = new LastKnownGood<>(lastKnownSize);
+    }
+
+    @Override
+    public ResponseEntity<EventDto> getEventById(Long eventId) {
+        try {
+            ResponseEntity<EventDto> response = guard.call(SERVICE, "getEventById", () -> delegate.getEventById(eventId));
+            events.put(eventId, response.getBody());
+            return response;
+        } catch (ServiceUnavailableException e) {
+            EventDto event = events.get(eventId);
+            if (event == null) {
+                throw e;
+            }
+            log.warn("Serving last known copy of event {}: {}", eventId, e.getMessage());
+            return ResponseEntity.ok(event);
+        }
+    }
+}
@@ -0,0 +1,44 @@
+package com.femi.bookingservice.client;
+
+import com.femi.bookingservice.dto.ApiResponseData;
+import com.femi.bookingservice.dto.UserBatchRequestDto;
+import com.femi.bookingservice.dto.UserDto;
+import com.femi.common.client.DownstreamGuard;
+import org.springframework.beans.factory.annotation.Qualifier;
+import org.springframework.context.annotation.Primary;
+import org.springframework.http.ResponseEntity;
+import org.springframework.stereotype.Component;
+
+import java.util.List;
+
+@Component
+@Primary
+public class ResilientUserServiceClient implements UserServiceClient {
+
+    static final String SERVICE = "user-service";
+
+    private final UserServiceClient delegate;
+    private final DownstreamGuard guard;
+
+    public ResilientUserServiceClient(@Qualifier("userServiceFeignClient") UserServiceClient delegate,
+                                      DownstreamGuard guard) {
+        this.delegate = delegate;
+        this.guard = guard;
+    }
+
+    @Override
+    public ResponseEntity<ApiResponseData<UserDto>> getUserById(Long id, String authToken) {
+        return guard.call(SERVICE, "getUserById", () -> delegate.getUserById(id, authToken));
+    }
+
+    @Override
+    public ResponseEntity<ApiResponseData<List<UserDto>>> getUsersByIds(UserBatchRequestDto request, String authToken) {
+        return guard.call(SERVICE, "getUsersByIds", () -> delegate.getUsersByIds(request, authToken));
+    }
+
+    // JwtVerifier keeps the keys it already has when a refresh fails, so no fallback here.
+    @Override
+    public String getJwks() {
+        return guard.call(SERVICE, "getJwks", delegate::getJwks);
+    }
+}
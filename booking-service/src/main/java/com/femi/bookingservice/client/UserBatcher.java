@@ -0,0 +1,148 @@
+package com.femi.bookingservice.client;
+
+import com.femi.bookingservice.dto.ApiResponseData;
+import com.femi.bookingservice.dto.UserBatchRequestDto;
+import com.femi.bookingservice.dto.UserDto;
+import jakarta.annotation.PreDestroy;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.http.ResponseEntity;
+import org.springframework.stereotype.Component;
+
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.HashMap;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.Executor;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.TimeUnit;
+
+// Batches are kept per caller token, since user-service authorizes the whole batch with it
+@Component
+@Slf4j
+public class UserBatcher {
+
+    private final UserServiceClient userServiceClient;
+    private final int maxBatchSize;
+    private final ExecutorService flushers = Executors.newVirtualThreadPerTaskExecutor();
+    private final Executor delayed;
+    private final Map<String, Batch> open = new ConcurrentHashMap<>();
+
+    public UserBatcher(UserServiceClient userServiceClient,
+                       @Value("${booking.user-batch.window-ms:5}") long windowMs,
+                       @Value("${booking.user-batch.max-size:100}") int maxBatchSize) {
+        this.userServiceClient = userServiceClient;
+        this.maxBatchSize = maxBatchSize;
+        this.delayed = CompletableFuture.delayedExecutor(windowMs, TimeUnit.MILLISECONDS, flushers);
+    }
+
+    @PreDestroy
+    void stop() {
+        flushers.shutdownNow();
+    }
+
+    public UserDto getUser(Long id, String authToken) {
+        while (true) {
+            Batch batch = open.computeIfAbsent(authToken, this::openBatch);
+            CompletableFuture<UserDto> result = batch.add(id);
+            if (result != null) {
+                return await(result);
+            }
+        }
+    }
+
+    public Map<Long, UserDto> getUsers(Collection<Long> ids, String authToken) {
+        List<Long> distinct = new ArrayList<>(new LinkedHashSet<>(ids));
+        Map<Long, UserDto> users = new HashMap<>();
+        for (int from = 0; from < distinct.size(); from += maxBatchSize) {
+            List<Long> chunk = distinct.subList(from, Math.min(from + maxBatchSize, distinct.size()));
+            for (UserDto user : fetch(chunk, authToken)) {
+                users.put(user.getId(), user);
+            }
+        }
+        return users;
+    }
+
+    private Batch openBatch(String authToken) {
+        Batch batch = new Batch(authToken);
+        delayed.execute(batch::flush);
+        return batch;
+    }
+
+    private List<UserDto> fetch(Collection<Long> ids, String authToken) {
+        ResponseEntity<ApiResponseData<List<UserDto>>> response =
+                userServiceClient.getUsersByIds(new UserBatchRequestDto(Set.copyOf(ids)), authToken);
+        ApiResponseData<List<UserDto>> body = response.getBody();
+        return body == null || body.getData() == null ? List.of() : body.getData();
+    }
+
+    private static UserDto await(CompletableFuture<UserDto> result) {
+        try {
+            return result.join();
+        } catch (CompletionException e) {
+            if (e.getCause() instanceof RuntimeException cause) {
+                throw cause;
+            }
+            throw e;
+        }
+    }
+
+    private final class Batch {
+        private final String authToken;
+        private final Map<Long, CompletableFuture<UserDto>> waiters = new HashMap<>();
+        private boolean closed;
+
+        private Batch(String authToken) {
+            this.authToken = authToken;
+        }
+
+        private synchronized CompletableFuture<UserDto> add(Long id) {
+            if (closed) {
+                return null;
+            }
+            CompletableFuture<UserDto> result = waiters.computeIfAbsent(id, key -> new CompletableFuture<>());
+            if (waiters.size() >= maxBatchSize) {
+                close();
+                flushers.execute(this::flush);
+            }
+            return result;
+        }
+
+        private synchronized void close() {
+            closed = true;
+            open.remove(authToken, this);
+        }
+
+        private void flush() {
+            Map<Long, CompletableFuture<UserDto>> pending;
+            synchronized (this) {
+                if (closed && waiters.isEmpty()) {
+                    return;
+                }
+                close();
+                pending = Map.copyOf(waiters);
+                waiters.clear();
+            }
+            if (pending.isEmpty()) {
+                return;
+            }
+            try {
+                Map<Long, UserDto> users = new HashMap<>();
+                for (UserDto user : fetch(pending.keySet(), authToken)) {
+                    users.put(user.getId(), user);
+                }
+                pending.forEach((id, result) -> result.complete(users.get(id)));
+            } catch (RuntimeException e) {
+                log.warn("Batched user lookup for {} ids failed: {}", pending.size(), e.getMessage());
+                pending.values().forEach(result -> result.completeExceptionally(e));
+            }
+        }
+    }
+}
@@ -1,19 +1,33 @@
 package com.femi.bookingservice.client;
 
 import com.femi.bookingservice.dto.ApiResponseData;
+import com.femi.bookingservice.dto.UserBatchRequestDto;
 import com.femi.bookingservice.dto.UserDto;
 import org.springframework.cloud.openfeign.FeignClient;
 import org.springframework.http.ResponseEntity;
 import org.springframework.web.bind.annotation.GetMapping;
 import org.springframework.web.bind.annotation.PathVariable;
+import org.springframework.web.bind.annotation.PostMapping;
+import org.springframework.web.bind.annotation.RequestBody;
 import org.springframework.web.bind.annotation.RequestHeader;
 
-@FeignClient(name = "user-service", url = "${user-service.url}")
+import java.util.List;
+
+@FeignClient(name = "user-service", qualifiers = "userServiceFeignClient", primary = false)
 public interface UserServiceClient {
 
-    @GetMapping("/api/users/{id}")
+    @GetMapping("/users/{id}")
     ResponseEntity<ApiResponseData<UserDto>> getUserById(
             @PathVariable("id") Long id,
             @RequestHeader("Authorization") String authToken
     );
+
+    @PostMapping("/users/batch")
+    ResponseEntity<ApiResponseData<List<UserDto>>> getUsersByIds(
+            @RequestBody UserBatchRequestDto request,
+            @RequestHeader("Authorization") String authToken
+    );
+
+    @GetMapping("/auth/jwks")
+    String getJwks();
 }
@@ -0,0 +1,19 @@
+package com.femi.bookingservice.config;
+
+import com.femi.common.admission.AdmissionControl;
+import io.github.resilience4j.bulkhead.BulkheadRegistry;
+import io.github.resilience4j.ratelimiter.RateLimiterRegistry;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+
+@Configuration
+public class AdmissionConfig {
+
+    @Bean
+    public AdmissionControl admissionControl(RateLimiterRegistry rateLimiterRegistry,
+                                             BulkheadRegistry bulkheadRegistry,
+                                             @Value("${admission.max-tracked-keys:100000}") int maxTrackedKeys) {
+        return new AdmissionControl(rateLimiterRegistry, bulkheadRegistry, maxTrackedKeys);
+    }
+}
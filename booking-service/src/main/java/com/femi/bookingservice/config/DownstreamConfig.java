@@ -0,0 +1,21 @@
+package com.femi.bookingservice.config;
+
+import com.femi.common.client.DownstreamGuard;
+import io.github.resilience4j.bulkhead.BulkheadRegistry;
+import io.github.resilience4j.circuitbreaker.CircuitBreakerRegistry;
+import io.github.resilience4j.timelimiter.TimeLimiterRegistry;
+import io.micrometer.core.instrument.MeterRegistry;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+
+@Configuration
+public class DownstreamConfig {
+
+    @Bean
+    public DownstreamGuard downstreamGuard(CircuitBreakerRegistry circuitBreakers,
+                                           BulkheadRegistry bulkheads,
+                                           TimeLimiterRegistry timeLimiters,
+                                           MeterRegistry meterRegistry) {
+        return new DownstreamGuard(circuitBreakers, bulkheads, timeLimiters, meterRegistry);
+    }
+}
@@ -0,0 +1,44 @@
+package com.femi.bookingservice.config;
+
+import com.femi.bookingservice.client.UserServiceClient;
+import com.femi.bookingservice.dto.Role;
+import com.femi.bookingservice.dto.UserDto;
+import com.femi.common.security.TokenVerifier;
+import io.jsonwebtoken.Claims;
+import io.micrometer.core.instrument.MeterRegistry;
+import jakarta.servlet.http.HttpServletRequest;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+@Component
+public class JwtVerifier {
+
+    // Set by AdmissionFilter so the controller does not verify the same token again
+    public static final String VERIFIED_USER = JwtVerifier.class.getName() + ".user";
+
+    private final TokenVerifier tokenVerifier;
+
+    public JwtVerifier(UserServiceClient userServiceClient,
+                       @Value("${jwt.jwks.min-refresh-interval-ms:30000}") long refreshIntervalMs,
+                       MeterRegistry meterRegistry) {
+        this.tokenVerifier = new TokenVerifier(() -> userServiceClient.getJwks(), refreshIntervalMs, meterRegistry);
+    }
+
+    public UserDto verify(String authHeader, HttpServletRequest request) {
+        if (request.getAttribute(VERIFIED_USER) instanceof UserDto user) {
+            return user;
+        }
+        return verify(authHeader);
+    }
+
+    public UserDto verify(String authHeader) {
+        Claims claims = tokenVerifier.verify(authHeader);
+        String role = claims.get("role", String.class);
+        UserDto user = new UserDto();
+        user.setId(claims.get("userId", Long.class));
+        user.setUsername(claims.get("username", String.class));
+        user.setEmail(claims.get("email", String.class));
+        user.setRole(role != null ? Role.valueOf(role) : null);
+        return user;
+    }
+}
@@ -0,0 +1,87 @@
+package com.femi.bookingservice.controller;
+
+import com.femi.bookingservice.config.JwtVerifier;
+import com.femi.bookingservice.dto.BookingViewPageDto;
+import com.femi.bookingservice.dto.CreateBookingDto;
+import com.femi.bookingservice.dto.EventBookingPageDto;
+import com.femi.bookingservice.dto.UserDto;
+import com.femi.bookingservice.model.Book;
+import com.femi.bookingservice.service.BookService;
+import com.femi.bookingservice.service.BookingViewService;
+import jakarta.servlet.http.HttpServletRequest;
+import jakarta.validation.Valid;
+import lombok.RequiredArgsConstructor;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.bind.annotation.*;
+
+@RestController
+@RequestMapping("/api/bookings")
+@RequiredArgsConstructor
+public class BookingController {
+
+    private final BookService bookService;
+    private final BookingViewService bookingViewService;
+    private final JwtVerifier jwtVerifier;
+
+    @PostMapping
+    public ResponseEntity<Book> createBooking(
+            @Valid @RequestBody CreateBookingDto createBookingDto,
+            @RequestHeader("Authorization") String authToken,
+            @RequestHeader(value = "Idempotency-Key", required = false) String idempotencyKey,
+            HttpServletRequest request) {
+        UserDto user = jwtVerifier.verify(authToken, request);
+        Book book = bookService.createBooking(user.getId(), createBookingDto.getEventId(), createBookingDto.getNumberOfTickets(), idempotencyKey);
+        return ResponseEntity.status(HttpStatus.CREATED).body(book);
+    }
+
+    @GetMapping("/my")
+    public ResponseEntity<BookingViewPageDto> getMyBookings(
+            @RequestHeader("Authorization") String authToken,
+            @RequestParam(required = false) String cursor,
+            @RequestParam(defaultValue = "" + BookingViewService.DEFAULT_PAGE_SIZE) int size,
+            HttpServletRequest request) {
+        UserDto user = jwtVerifier.verify(authToken, request);
+        return ResponseEntity.ok(bookingViewService.getBookings(user.getId(), cursor, size));
+    }
+
+    @GetMapping("/event/{eventId}")
+    public ResponseEntity<EventBookingPageDto> getEventBookings(
+            @PathVariable Long eventId,
+            @RequestHeader("Authorization") String authToken,
+            @RequestParam(required = false) String cursor,
+            @RequestParam(defaultValue = "" + BookingViewService.DEFAULT_PAGE_SIZE) int size,
+            HttpServletRequest request) {
+        UserDto user = jwtVerifier.verify(authToken, request);
+        return ResponseEntity.ok(bookingViewService.getEventBookings(eventId, cursor, size, user, authToken));
+    }
+
+    @GetMapping("/{bookingId}")
+    public ResponseEntity<Book> getBookingById(
+            @PathVariable Long bookingId,
+            @RequestHeader("Authorization") String authToken,
+            HttpServletRequest request) {
+        UserDto user = jwtVerifier.verify(authToken, request);
+        return ResponseEntity.ok(bookService.getBookingForUser(bookingId, user));
+    }
+
+    @PutMapping("/{bookingId}/confirm")
+    public ResponseEntity<Book> confirmBooking(
+            @PathVariable Long bookingId,
+            @RequestHeader("Authorization") String authToken,
+            HttpServletRequest request) {
+        UserDto user = jwtVerifier.verify(authToken, request);
+        bookService.getBookingForUser(bookingId, user);
+        return ResponseEntity.ok(bookService.confirmBooking(bookingId));
+    }
+
+    @DeleteMapping("/{bookingId}")
+    public ResponseEntity<Book> cancelBooking(
+            @PathVariable Long bookingId,
+            @RequestHeader("Authorization") String authToken,
+            HttpServletRequest request) {
+        UserDto user = jwtVerifier.verify(authToken, request);
+        bookService.getBookingForUser(bookingId, user);
+        return ResponseEntity.ok(bookService.cancelBooking(bookingId));
+    }
+}
@@ -0,0 +1,51 @@
+package com.femi.bookingservice.controller;
+
+import com.femi.bookingservice.config.JwtVerifier;
+import com.femi.bookingservice.dto.JoinWaitlistDto;
+import com.femi.bookingservice.dto.UserDto;
+import com.femi.bookingservice.model.WaitlistEntry;
+import com.femi.bookingservice.service.WaitlistService;
+import jakarta.servlet.http.HttpServletRequest;
+import jakarta.validation.Valid;
+import lombok.RequiredArgsConstructor;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.bind.annotation.*;
+
+import java.util.List;
+
+@RestController
+@RequestMapping("/api/waitlist")
+@RequiredArgsConstructor
+public class WaitlistController {
+
+    private final WaitlistService waitlistService;
+    private final JwtVerifier jwtVerifier;
+
+    @PostMapping
+    public ResponseEntity<WaitlistEntry> joinWaitlist(
+            @Valid @RequestBody JoinWaitlistDto joinWaitlistDto,
+            @RequestHeader("Authorization") String authToken,
+            HttpServletRequest request) {
+        UserDto user = jwtVerifier.verify(authToken, request);
+        return ResponseEntity.status(HttpStatus.CREATED).body(waitlistService.join(user, joinWaitlistDto));
+    }
+
+    @GetMapping("/my")
+    public ResponseEntity<List<WaitlistEntry>> getMyEntries(
+            @RequestHeader("Authorization") String authToken,
+            HttpServletRequest request) {
+        UserDto user = jwtVerifier.verify(authToken, request);
+        return ResponseEntity.ok(waitlistService.getEntriesForUser(user.getId()));
+    }
+
+    @DeleteMapping("/{entryId}")
+    public ResponseEntity<Void> leaveWaitlist(
+            @PathVariable Long entryId,
+            @RequestHeader("Authorization") String authToken,
+            HttpServletRequest request) {
+        UserDto user = jwtVerifier.verify(authToken, request);
+        waitlistService.leave(entryId, user);
+        return ResponseEntity.noContent().build();
+    }
+}
@@ -0,0 +1,21 @@
+package com.femi.bookingservice.dto;
+
+import com.femi.bookingservice.model.BookingStatus;
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+@Builder
+public class BookingChangeDto {
+    private Long bookingId;
+    private Long userId;
+    private Long eventId;
+    private int numberOfTickets;
+    // Null for a newly created booking.
+    private BookingStatus from;
+    private BookingStatus to;
+}
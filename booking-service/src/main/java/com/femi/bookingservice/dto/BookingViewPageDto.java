@@ -0,0 +1,19 @@
+package com.femi.bookingservice.dto;
+
+import com.femi.bookingservice.model.BookingView;
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.util.List;
+
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+@Builder
+public class BookingViewPageDto {
+    private List<BookingView> bookings;
+    private String nextCursor;
+    private boolean hasMore;
+}
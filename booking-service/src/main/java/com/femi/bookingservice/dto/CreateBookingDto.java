@@ -0,0 +1,14 @@
+package com.femi.bookingservice.dto;
+
+import jakarta.validation.constraints.NotNull;
+import jakarta.validation.constraints.Positive;
+import lombok.Data;
+
+@Data
+public class CreateBookingDto {
+    @NotNull(message = "Event id is required")
+    private Long eventId;
+
+    @Positive(message = "Number of tickets must be at least 1")
+    private int numberOfTickets;
+}
@@ -0,0 +1,25 @@
+package com.femi.bookingservice.dto;
+
+import com.femi.bookingservice.model.BookingStatus;
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.math.BigDecimal;
+import java.time.LocalDateTime;
+
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+@Builder
+public class EventBookingDto {
+    private Long bookingId;
+    private Long userId;
+    private String username;
+    private String email;
+    private int numberOfTickets;
+    private BigDecimal totalPrice;
+    private BookingStatus status;
+    private LocalDateTime bookedAt;
+}
@@ -0,0 +1,18 @@
+package com.femi.bookingservice.dto;
+
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.util.List;
+
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+@Builder
+public class EventBookingPageDto {
+    private List<EventBookingDto> bookings;
+    private String nextCursor;
+    private boolean hasMore;
+}
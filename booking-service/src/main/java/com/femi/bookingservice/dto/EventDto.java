@@ -5,6 +5,7 @@ import lombok.Builder;
 import lombok.Data;
 import lombok.NoArgsConstructor;
 
+import java.math.BigDecimal;
 import java.time.LocalDateTime;
 
 @Data
@@ -18,5 +19,8 @@ public class EventDto {
     private String venue;
     private LocalDateTime eventDateTime;
     private int totalSeats;
+    private int availableSeats;
+    private BigDecimal ticketPrice;
+    private EventStatus status;
 
 }
@@ -0,0 +1,8 @@
+package com.femi.bookingservice.dto;
+
+public enum EventStatus {
+    ACTIVE,
+    CANCELLED,
+    COMPLETED,
+    SOLD_OUT
+}
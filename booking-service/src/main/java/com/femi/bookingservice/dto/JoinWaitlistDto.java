@@ -0,0 +1,27 @@
+package com.femi.bookingservice.dto;
+
+import jakarta.validation.constraints.Max;
+import jakarta.validation.constraints.NotNull;
+import jakarta.validation.constraints.Positive;
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+@Builder
+public class JoinWaitlistDto {
+    public static final int MAX_TICKETS = 10;
+
+    @NotNull(message = "Event id is required")
+    private Long eventId;
+
+    @Positive(message = "Number of tickets must be at least 1")
+    @Max(value = MAX_TICKETS, message = "At most " + MAX_TICKETS + " tickets can be requested from the waitlist")
+    private int numberOfTickets;
+
+    // Only honoured for admins; everyone else joins at priority 0.
+    private Integer priority;
+}
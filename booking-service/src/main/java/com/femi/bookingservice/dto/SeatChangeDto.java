@@ -0,0 +1,23 @@
+package com.femi.bookingservice.dto;
+
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.time.LocalDateTime;
+
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+@Builder
+public class SeatChangeDto {
+    private long version;
+    private Long eventId;
+    private int totalSeats;
+    private int availableSeats;
+    private EventStatus status;
+    private String name;
+    private String venue;
+    private LocalDateTime eventDateTime;
+}
@@ -0,0 +1,18 @@
+package com.femi.bookingservice.dto;
+
+import com.femi.bookingservice.model.BookingStatus;
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+@Builder
+public class TicketCountDto {
+
+    private Long eventId;
+    private BookingStatus status;
+    private Long tickets;
+}
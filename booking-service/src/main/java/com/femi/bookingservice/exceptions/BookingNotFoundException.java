@@ -0,0 +1,7 @@
+package com.femi.bookingservice.exceptions;
+
+public class BookingNotFoundException extends RuntimeException {
+    public BookingNotFoundException(String message) {
+        super(message);
+    }
+}
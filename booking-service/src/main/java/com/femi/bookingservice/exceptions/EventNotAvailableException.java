@@ -0,0 +1,7 @@
+package com.femi.bookingservice.exceptions;
+
+public class EventNotAvailableException extends RuntimeException {
+    public EventNotAvailableException(String message) {
+        super(message);
+    }
+}
@@ -0,0 +1,88 @@
+package com.femi.bookingservice.exceptions;
+
+import com.femi.bookingservice.dto.ApiResponseData;
+import com.femi.common.exceptions.ServiceUnavailableException;
+import com.femi.common.exceptions.TooManyRequestsException;
+import com.femi.common.exceptions.UnauthorizedException;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.ResponseEntity;
+import org.springframework.validation.FieldError;
+import org.springframework.web.bind.MethodArgumentNotValidException;
+import org.springframework.web.bind.annotation.ExceptionHandler;
+import org.springframework.web.bind.annotation.RestControllerAdvice;
+
+import java.time.LocalDateTime;
+import java.util.List;
+
+@RestControllerAdvice
+@Slf4j
+public class GlobalExceptionHandler {
+
+    @ExceptionHandler({InsufficientSeatsException.class, EventNotAvailableException.class,
+            InvalidBookingStateException.class, IdempotencyKeyConflictException.class})
+    public ResponseEntity<ApiResponseData<Void>> handleConflict(RuntimeException ex) {
+        log.warn("Booking conflict: {}", ex.getMessage());
+        return error(HttpStatus.CONFLICT, ex.getMessage());
+    }
+
+    @ExceptionHandler({BookingNotFoundException.class, WaitlistEntryNotFoundException.class})
+    public ResponseEntity<ApiResponseData<Void>> handleNotFound(RuntimeException ex) {
+        log.warn("Not found: {}", ex.getMessage());
+        return error(HttpStatus.NOT_FOUND, ex.getMessage());
+    }
+
+    @ExceptionHandler(UnauthorizedException.class)
+    public ResponseEntity<ApiResponseData<Void>> handleUnauthorized(UnauthorizedException ex) {
+        log.warn("Unauthorized: {}", ex.getMessage());
+        return error(HttpStatus.UNAUTHORIZED, ex.getMessage());
+    }
+
+    @ExceptionHandler({IllegalArgumentException.class, InvalidCursorException.class})
+    public ResponseEntity<ApiResponseData<Void>> handleBadRequest(RuntimeException ex) {
+        log.warn("Bad request: {}", ex.getMessage());
+        return error(HttpStatus.BAD_REQUEST, ex.getMessage());
+    }
+
+    @ExceptionHandler(TooManyRequestsException.class)
+    public ResponseEntity<ApiResponseData<Void>> handleTooManyRequests(TooManyRequestsException ex) {
+        log.warn("Rate limited: {}", ex.getMessage());
+        return ResponseEntity.status(HttpStatus.TOO_MANY_REQUESTS)
+                .header(HttpHeaders.RETRY_AFTER, String.valueOf(ex.getRetryAfterSeconds()))
+                .body(body(ex.getMessage(), null));
+    }
+
+    @ExceptionHandler(ServiceUnavailableException.class)
+    public ResponseEntity<ApiResponseData<Void>> handleServiceUnavailable(ServiceUnavailableException ex) {
+        log.warn("Downstream unavailable: {}", ex.getMessage());
+        return ResponseEntity.status(HttpStatus.SERVICE_UNAVAILABLE)
+                .header(HttpHeaders.RETRY_AFTER, "1")
+                .body(body(ex.getMessage(), null));
+    }
+
+    @ExceptionHandler(MethodArgumentNotValidException.class)
+    public ResponseEntity<ApiResponseData<Void>> handleValidationErrors(MethodArgumentNotValidException ex) {
+        List<String> errors = ex.getBindingResult()
+                .getFieldErrors()
+                .stream()
+                .map(FieldError::getDefaultMessage)
+                .toList();
+
+        log.warn("Validation errors: {}", errors);
+        return ResponseEntity.status(HttpStatus.BAD_REQUEST).body(body("Validation failed", errors));
+    }
+
+    private static ResponseEntity<ApiResponseData<Void>> error(HttpStatus status, String message) {
+        return ResponseEntity.status(status).body(body(message, null));
+    }
+
+    private static ApiResponseData<Void> body(String message, List<String> errors) {
+        return ApiResponseData.<Void>builder()
+                .success(false)
+                .message(message)
+                .errors(errors)
+                .timestamp(LocalDateTime.now())
+                .build();
+    }
+}
@@ -0,0 +1,7 @@
+package com.femi.bookingservice.exceptions;
+
+public class InsufficientSeatsException extends RuntimeException {
+    public InsufficientSeatsException(String message) {
+        super(message);
+    }
+}
@@ -0,0 +1,7 @@
+package com.femi.bookingservice.exceptions;
+
+public class InvalidBookingStateException extends RuntimeException {
+    public InvalidBookingStateException(String message) {
+        super(message);
+    }
+}
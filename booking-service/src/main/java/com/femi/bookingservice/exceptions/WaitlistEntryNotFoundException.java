@@ -0,0 +1,7 @@
+package com.femi.bookingservice.exceptions;
+
+public class WaitlistEntryNotFoundException extends RuntimeException {
+    public WaitlistEntryNotFoundException(String message) {
+        super(message);
+    }
+}
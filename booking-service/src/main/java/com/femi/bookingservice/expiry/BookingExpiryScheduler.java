@@ -0,0 +1,128 @@
+package com.femi.bookingservice.expiry;
+
+import com.femi.bookingservice.model.Book;
+import com.femi.bookingservice.model.BookingStatus;
+import com.femi.bookingservice.repository.BookingRepository;
+import com.femi.bookingservice.service.BookingExpiryService;
+import jakarta.annotation.PostConstruct;
+import jakarta.annotation.PreDestroy;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.stereotype.Component;
+
+import java.time.LocalDateTime;
+import java.time.ZoneId;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.Queue;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.TimeUnit;
+
+@Component
+@RequiredArgsConstructor
+@Slf4j
+public class BookingExpiryScheduler {
+
+    private final BookingRepository bookingRepository;
+    private final BookingExpiryService bookingExpiryService;
+
+    @Value("${booking.expiry.hold-minutes:15}")
+    private long holdMinutes;
+
+    @Value("${booking.expiry.tick-ms:100}")
+    private long tickMs;
+
+    @Value("${booking.expiry.wheel-size:512}")
+    private int wheelSize;
+
+    @Value("${booking.expiry.batch-size:500}")
+    private int batchSize;
+
+    private final Queue<Timeout<Long>> inbox = new ConcurrentLinkedQueue<>();
+    private final Map<Long, Timeout<Long>> timeouts = new ConcurrentHashMap<>();
+    private final List<Long> due = new ArrayList<>();
+    private TimingWheel<Long> wheel;
+    private ScheduledExecutorService ticker;
+
+    @PostConstruct
+    void start() {
+        wheel = new TimingWheel<>(tickMs, wheelSize, System.currentTimeMillis());
+        ticker = Executors.newSingleThreadScheduledExecutor(r -> {
+            Thread thread = new Thread(r, "booking-expiry");
+            thread.setDaemon(true);
+            return thread;
+        });
+        ticker.scheduleWithFixedDelay(this::tick, tickMs, tickMs, TimeUnit.MILLISECONDS);
+    }
+
+    @PreDestroy
+    void stop() {
+        ticker.shutdownNow();
+    }
+
+    @EventListener(ApplicationReadyEvent.class)
+    public void schedulePendingBookings() {
+        List<Book> pending = bookingRepository.findByStatus(BookingStatus.PENDING);
+        pending.forEach(this::schedule);
+        log.info("Scheduled expiry for {} pending bookings", pending.size());
+    }
+
+    public void schedule(Book book) {
+        long deadline = expiresAt(book).atZone(ZoneId.systemDefault()).toInstant().toEpochMilli();
+        Timeout<Long> timeout = new Timeout<>(book.getId(), deadline);
+        Timeout<Long> previous = timeouts.put(book.getId(), timeout);
+        if (previous != null) {
+            previous.cancel();
+        }
+        inbox.offer(timeout);
+    }
+
+    public LocalDateTime expiresAt(Book book) {
+        LocalDateTime createdAt = book.getCreatedAt() != null ? book.getCreatedAt() : LocalDateTime.now();
+        return createdAt.plusMinutes(holdMinutes);
+    }
+
+    public void cancel(Long bookingId) {
+        Timeout<Long> timeout = timeouts.remove(bookingId);
+        if (timeout != null) {
+            timeout.cancel();
+        }
+    }
+
+    public int pendingCount() {
+        return timeouts.size();
+    }
+
+    void tick() {
+        try {
+            Timeout<Long> timeout;
+            while ((timeout = inbox.poll()) != null) {
+                if (!wheel.add(timeout) && !timeout.isCancelled()) {
+                    due.add(timeout.getPayload());
+                }
+            }
+            wheel.advanceTo(System.currentTimeMillis(), expired -> due.add(expired.getPayload()));
+            if (!due.isEmpty()) {
+                flush();
+            }
+        } catch (Exception e) {
+            log.error("Booking expiry tick failed", e);
+        }
+    }
+
+    private void flush() {
+        for (int from = 0; from < due.size(); from += batchSize) {
+            List<Long> batch = due.subList(from, Math.min(from + batchSize, due.size()));
+            bookingExpiryService.expire(batch);
+            batch.forEach(timeouts::remove);
+        }
+        due.clear();
+    }
+}
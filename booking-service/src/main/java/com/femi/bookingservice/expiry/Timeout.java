@@ -0,0 +1,17 @@
+package com.femi.bookingservice.expiry;
+
+import lombok.Getter;
+import lombok.RequiredArgsConstructor;
+
+@Getter
+@RequiredArgsConstructor
+class Timeout<T> {
+
+    private final T payload;
+    private final long deadline;
+    private volatile boolean cancelled;
+
+    void cancel() {
+        this.cancelled = true;
+    }
+}
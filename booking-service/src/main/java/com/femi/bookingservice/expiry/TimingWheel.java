@@ -0,0 +1,95 @@
+package com.femi.bookingservice.expiry;
+
+import java.util.ArrayDeque;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.function.Consumer;
+
+// Not thread-safe: owned by the single ticking thread
+class TimingWheel<T> {
+
+    private final long tickMs;
+    private final int wheelSize;
+    private final List<Level<T>> levels = new ArrayList<>();
+    private long currentTime;
+    private int size;
+
+    TimingWheel(long tickMs, int wheelSize, long startMs) {
+        this.tickMs = tickMs;
+        this.wheelSize = wheelSize;
+        this.currentTime = startMs - (startMs % tickMs);
+        levels.add(new Level<>(tickMs, wheelSize));
+    }
+
+    boolean add(Timeout<T> timeout) {
+        if (timeout.isCancelled()) {
+            return true;
+        }
+        // Round up to a tick boundary so timers never fire early.
+        long effective = ((timeout.getDeadline() + tickMs - 1) / tickMs) * tickMs;
+        if (effective <= currentTime) {
+            return false;
+        }
+        for (int i = 0; ; i++) {
+            Level<T> level = level(i);
+            long aligned = currentTime - (currentTime % level.tick);
+            if (effective < aligned + level.span) {
+                level.bucket(effective).add(timeout);
+                size++;
+                return true;
+            }
+        }
+    }
+
+    void advanceTo(long nowMs, Consumer<Timeout<T>> expired) {
+        while (currentTime + tickMs <= nowMs) {
+            currentTime += tickMs;
+            for (int i = levels.size() - 1; i >= 0; i--) {
+                Level<T> level = levels.get(i);
+                if (currentTime % level.tick != 0) {
+                    continue;
+                }
+                ArrayDeque<Timeout<T>> bucket = level.bucket(currentTime);
+                Timeout<T> timeout;
+                while ((timeout = bucket.poll()) != null) {
+                    size--;
+                    if (!add(timeout) && !timeout.isCancelled()) {
+                        expired.accept(timeout);
+                    }
+                }
+            }
+        }
+    }
+
+    int size() {
+        return size;
+    }
+
+    private Level<T> level(int index) {
+        while (levels.size() <= index) {
+            Level<T> top = levels.get(levels.size() - 1);
+            levels.add(new Level<>(top.span, wheelSize));
+        }
+        return levels.get(index);
+    }
+
+    private static final class Level<T> {
+        private final long tick;
+        private final long span;
+        private final ArrayDeque<Timeout<T>>[] buckets;
+
+        @SuppressWarnings("unchecked")
+        private Level(long tick, int wheelSize) {
+            this.tick = tick;
+            this.span = tick * wheelSize;
+            this.buckets = new ArrayDeque[wheelSize];
+            for (int i = 0; i < wheelSize; i++) {
+                buckets[i] = new ArrayDeque<>();
+            }
+        }
+
+        private ArrayDeque<Timeout<T>> bucket(long time) {
+            return buckets[(int) ((time / tick) % buckets.length)];
+        }
+    }
+}
@@ -0,0 +1,130 @@
+package com.femi.bookingservice.idempotency;
+
+import com.femi.bookingservice.exceptions.IdempotencyKeyConflictException;
+import com.femi.bookingservice.model.IdempotencyKey;
+import com.femi.bookingservice.repository.IdempotencyKeyRepository;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.dao.DataIntegrityViolationException;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.annotation.Propagation;
+import org.springframework.transaction.annotation.Transactional;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.util.Collections;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.Optional;
+
+@Component
+@Slf4j
+public class IdempotencyStore {
+
+    private static final int MAX_ATTEMPTS = 3;
+
+    private final IdempotencyKeyRepository idempotencyKeyRepository;
+    private final Map<String, IdempotencyKey> recent;
+    private final Duration ttl;
+    private final Duration claimTimeout;
+
+    public IdempotencyStore(IdempotencyKeyRepository idempotencyKeyRepository,
+                            @Value("${booking.idempotency.cache-size:10000}") int cacheSize,
+                            @Value("${booking.idempotency.ttl-hours:24}") long ttlHours,
+                            @Value("${booking.idempotency.claim-timeout-ms:60000}") long claimTimeoutMs) {
+        this.idempotencyKeyRepository = idempotencyKeyRepository;
+        this.recent = Collections.synchronizedMap(new LinkedHashMap<>(16, 0.75f, true) {
+            @Override
+            protected boolean removeEldestEntry(Map.Entry<String, IdempotencyKey> eldest) {
+                return size() > cacheSize;
+            }
+        });
+        this.ttl = Duration.ofHours(ttlHours);
+        this.claimTimeout = Duration.ofMillis(claimTimeoutMs);
+    }
+
+    public IdempotencyKey begin(Long userId, String key, String fingerprint) {
+        IdempotencyKey cached = recent.get(cacheKey(userId, key));
+        if (cached != null && cached.getExpiresAt().isAfter(LocalDateTime.now())) {
+            return checkFingerprint(cached, fingerprint);
+        }
+
+        for (int attempt = 0; attempt < MAX_ATTEMPTS; attempt++) {
+            LocalDateTime now = LocalDateTime.now();
+            Optional<IdempotencyKey> existing = idempotencyKeyRepository.findByUserIdAndIdempotencyKey(userId, key);
+            if (existing.isPresent()) {
+                IdempotencyKey stored = existing.get();
+                if (idempotencyKeyRepository.deleteIfReclaimable(stored.getId(), now, now.minus(claimTimeout)) == 0) {
+                    checkFingerprint(stored, fingerprint);
+                    if (stored.getBookingId() == null) {
+                        throw new IdempotencyKeyConflictException("A request with this idempotency key is still in progress");
+                    }
+                    recent.put(cacheKey(userId, key), stored);
+                    return stored;
+                }
+                log.info("Reclaiming expired or abandoned idempotency key for user {}", userId);
+            }
+
+            try {
+                return idempotencyKeyRepository.saveAndFlush(IdempotencyKey.builder()
+                        .userId(userId)
+                        .idempotencyKey(key)
+                        .requestFingerprint(fingerprint)
+                        .createdAt(now)
+                        .expiresAt(now.plus(ttl))
+                        .build());
+            } catch (DataIntegrityViolationException e) {
+                // Another request claimed the key between our read and insert; look again.
+            }
+        }
+        throw new IdempotencyKeyConflictException("A request with this idempotency key is still in progress");
+    }
+
+    @Transactional(propagation = Propagation.MANDATORY)
+    public void complete(IdempotencyKey claim, Long bookingId) {
+        if (idempotencyKeyRepository.complete(claim.getId(), bookingId) == 0) {
+            throw new IdempotencyKeyConflictException("Idempotency key was reclaimed by another request");
+        }
+        TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+            @Override
+            public void afterCommit() {
+                claim.setBookingId(bookingId);
+                recent.put(cacheKey(claim.getUserId(), claim.getIdempotencyKey()), claim);
+            }
+        });
+    }
+
+    public void abandon(IdempotencyKey claim) {
+        try {
+            idempotencyKeyRepository.deleteClaim(claim.getId());
+        } catch (Exception e) {
+            log.warn("Could not release idempotency key {}: {}", claim.getId(), e.getMessage());
+        }
+    }
+
+    @Scheduled(fixedDelayString = "${booking.idempotency.cleanup-interval-ms:3600000}")
+    public void purgeExpired() {
+        LocalDateTime now = LocalDateTime.now();
+        int deleted = idempotencyKeyRepository.deleteExpired(now);
+        synchronized (recent) {
+            recent.values().removeIf(key -> !key.getExpiresAt().isAfter(now));
+        }
+        if (deleted > 0) {
+            log.info("Purged {} expired idempotency keys", deleted);
+        }
+    }
+
+    private static IdempotencyKey checkFingerprint(IdempotencyKey stored, String fingerprint) {
+        if (!stored.getRequestFingerprint().equals(fingerprint)) {
+            throw new IdempotencyKeyConflictException("Idempotency key was already used for a different request");
+        }
+        return stored;
+    }
+
+    private static String cacheKey(Long userId, String key) {
+        return userId + ":" + key;
+    }
+}
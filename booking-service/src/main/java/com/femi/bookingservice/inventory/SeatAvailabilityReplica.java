@@ -0,0 +1,186 @@
+package com.femi.bookingservice.inventory;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.femi.bookingservice.client.EventLookup;
+import com.femi.bookingservice.dto.SeatChangeDto;
+import jakarta.annotation.PreDestroy;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.context.event.EventListener;
+import org.springframework.http.MediaType;
+import org.springframework.http.client.SimpleClientHttpRequestFactory;
+import org.springframework.stereotype.Component;
+import org.springframework.web.client.RestClient;
+
+import java.io.BufferedReader;
+import java.io.IOException;
+import java.io.InputStreamReader;
+import java.nio.charset.StandardCharsets;
+import java.time.Duration;
+import java.util.Map;
+import java.util.Objects;
+import java.util.Optional;
+import java.util.concurrent.ConcurrentHashMap;
+
+@Component
+@Slf4j
+public class SeatAvailabilityReplica {
+
+    private final RestClient restClient;
+    private final ObjectMapper objectMapper;
+    private final EventLookup eventLookup;
+    private final ApplicationEventPublisher applicationEventPublisher;
+    private final Map<Long, SeatChangeDto> events = new ConcurrentHashMap<>();
+    private final boolean enabled;
+    private final long reconnectMinMs;
+    private final long reconnectMaxMs;
+    private volatile long version = -1;
+    private volatile boolean connected;
+    private volatile boolean running = true;
+    private Thread worker;
+
+    public SeatAvailabilityReplica(RestClient.Builder loadBalancedRestClientBuilder,
+                                   ObjectMapper objectMapper,
+                                   EventLookup eventLookup,
+                                   ApplicationEventPublisher applicationEventPublisher,
+                                   @Value("${booking.seat-replica.enabled:true}") boolean enabled,
+                                   @Value("${booking.seat-replica.read-timeout-ms:45000}") long readTimeoutMs,
+                                   @Value("${booking.seat-replica.reconnect-min-ms:1000}") long reconnectMinMs,
+                                   @Value("${booking.seat-replica.reconnect-max-ms:30000}") long reconnectMaxMs) {
+        SimpleClientHttpRequestFactory requestFactory = new SimpleClientHttpRequestFactory();
+        requestFactory.setConnectTimeout(Duration.ofSeconds(5));
+        // event-service sends a heartbeat well inside this, so a silent socket means a dead one
+        requestFactory.setReadTimeout(Duration.ofMillis(readTimeoutMs));
+        this.restClient = loadBalancedRestClientBuilder.clone()
+                .baseUrl("http://event-service")
+                .requestFactory(requestFactory)
+                .build();
+        this.objectMapper = objectMapper;
+        this.eventLookup = eventLookup;
+        this.applicationEventPublisher = applicationEventPublisher;
+        this.enabled = enabled;
+        this.reconnectMinMs = reconnectMinMs;
+        this.reconnectMaxMs = reconnectMaxMs;
+    }
+
+    @EventListener(ApplicationReadyEvent.class)
+    public void start() {
+        if (enabled) {
+            worker = Thread.ofVirtual().name("seat-replica").start(this::run);
+        }
+    }
+
+    @PreDestroy
+    void stop() {
+        running = false;
+        if (worker != null) {
+            worker.interrupt();
+        }
+    }
+
+    public SeatChangeDto get(Long eventId) {
+        return connected ? events.get(eventId) : null;
+    }
+
+    public long version() {
+        return version;
+    }
+
+    public boolean isConnected() {
+        return connected;
+    }
+
+    private void run() {
+        long backoff = reconnectMinMs;
+        while (running) {
+            try {
+                stream();
+                backoff = reconnectMinMs;
+            } catch (Exception e) {
+                log.warn("Seat change stream from event-service dropped: {}", e.getMessage());
+            } finally {
+                connected = false;
+            }
+            try {
+                Thread.sleep(backoff);
+            } catch (InterruptedException e) {
+                return;
+            }
+            backoff = Math.min(backoff * 2, reconnectMaxMs);
+        }
+    }
+
+    private void stream() {
+        restClient.get()
+                .uri(uri -> uri.path("/api/events/seats/stream")
+                        .queryParamIfPresent("since", version >= 0 ? Optional.of(version) : Optional.empty())
+                        .build())
+                .accept(MediaType.TEXT_EVENT_STREAM)
+                .exchange((request, response) -> {
+                    if (!response.getStatusCode().is2xxSuccessful()) {
+                        throw new IllegalStateException("event-service answered " + response.getStatusCode());
+                    }
+                    try (BufferedReader reader = new BufferedReader(new InputStreamReader(response.getBody(), StandardCharsets.UTF_8))) {
+                        read(reader);
+                    }
+                    return null;
+                });
+    }
+
+    void read(BufferedReader reader) throws IOException {
+        connected = true;
+        String event = null;
+        StringBuilder data = new StringBuilder();
+        String line;
+        while (running && (line = reader.readLine()) != null) {
+            if (line.isEmpty()) {
+                if (!data.isEmpty()) {
+                    dispatch(event, data.toString());
+                }
+                event = null;
+                data.setLength(0);
+            } else if (line.startsWith("event:")) {
+                event = field(line, "event:");
+            } else if (line.startsWith("data:")) {
+                if (!data.isEmpty()) {
+                    data.append('\n');
+                }
+                data.append(field(line, "data:"));
+            }
+            // ids repeat the version in the payload, and ':' lines are heartbeats
+        }
+    }
+
+    private void dispatch(String event, String data) throws IOException {
+        if ("reset".equals(event)) {
+            events.clear();
+            version = Long.parseLong(data.trim());
+            log.info("Seat replica resynchronising from event-service at version {}", version);
+        } else if ("seats".equals(event)) {
+            apply(objectMapper.readValue(data, SeatChangeDto.class));
+        }
+    }
+
+    private void apply(SeatChangeDto change) {
+        SeatChangeDto previous = events.put(change.getEventId(), change);
+        version = Math.max(version, change.getVersion());
+        if (previous != null && (previous.getStatus() != change.getStatus()
+                || previous.getTotalSeats() != change.getTotalSeats())) {
+            eventLookup.invalidate(change.getEventId());
+        }
+        // Listeners keep copies of these details; seat counts alone change too often to fan out.
+        if (previous == null || previous.getStatus() != change.getStatus()
+                || !Objects.equals(previous.getName(), change.getName())
+                || !Objects.equals(previous.getVenue(), change.getVenue())
+                || !Objects.equals(previous.getEventDateTime(), change.getEventDateTime())) {
+            applicationEventPublisher.publishEvent(change);
+        }
+    }
+
+    private static String field(String line, String name) {
+        String value = line.substring(name.length());
+        return value.startsWith(" ") ? value.substring(1) : value;
+    }
+}
@@ -0,0 +1,53 @@
+package com.femi.bookingservice.inventory;
+
+import java.util.concurrent.atomic.AtomicInteger;
+
+class SeatCounter {
+
+    private final AtomicInteger available;
+    private final AtomicInteger unsettled = new AtomicInteger();
+
+    SeatCounter(int available) {
+        this.available = new AtomicInteger(Math.max(available, 0));
+    }
+
+    boolean tryAcquire(int seats) {
+        // Count the seats as unsettled before taking them so a concurrent reconcile
+        // can only ever under-estimate what is left, never over-estimate it.
+        unsettled.addAndGet(seats);
+        int current;
+        do {
+            current = available.get();
+            if (current < seats) {
+                unsettled.addAndGet(-seats);
+                return false;
+            }
+        } while (!available.compareAndSet(current, current - seats));
+        return true;
+    }
+
+    void settle(int seats) {
+        unsettled.addAndGet(-seats);
+    }
+
+    void abort(int seats) {
+        available.addAndGet(seats);
+        unsettled.addAndGet(-seats);
+    }
+
+    void release(int seats) {
+        available.addAndGet(seats);
+    }
+
+    int available() {
+        return available.get();
+    }
+
+    int unsettled() {
+        return unsettled.get();
+    }
+
+    boolean reset(int expected, int target) {
+        return available.compareAndSet(expected, Math.max(target, 0));
+    }
+}
@@ -0,0 +1,132 @@
+package com.femi.bookingservice.inventory;
+
+import com.femi.bookingservice.client.EventLookup;
+import com.femi.bookingservice.dto.EventDto;
+import com.femi.bookingservice.dto.SeatChangeDto;
+import com.femi.bookingservice.model.BookingStatus;
+import com.femi.bookingservice.tally.TicketTally;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+
+@Component
+@RequiredArgsConstructor
+@Slf4j
+public class SeatInventory {
+
+    public static final List<BookingStatus> HELD_STATUSES = List.of(BookingStatus.PENDING, BookingStatus.CONFIRMED);
+
+    private final Map<Long, SeatCounter> counters = new ConcurrentHashMap<>();
+    private final TicketTally ticketTally;
+    private final EventLookup eventLookup;
+    private final SeatAvailabilityReplica seatAvailabilityReplica;
+
+    public boolean tryHold(EventDto event, int seats) {
+        return counterFor(event).tryAcquire(seats);
+    }
+
+    public void settle(Long eventId, int seats) {
+        SeatCounter counter = counters.get(eventId);
+        if (counter != null) {
+            counter.settle(seats);
+        }
+    }
+
+    public void abort(Long eventId, int seats) {
+        SeatCounter counter = counters.get(eventId);
+        if (counter != null) {
+            counter.abort(seats);
+        }
+    }
+
+    // Called inside the transaction that frees the seats. The counter is credited after commit,
+    // before the transaction lets go of the tallies, so a reconcile sees both changes or neither.
+    public void releaseOnCommit(Long eventId, int seats) {
+        if (!TransactionSynchronizationManager.isSynchronizationActive()) {
+            release(eventId, seats);
+            return;
+        }
+        TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+            @Override
+            public void afterCommit() {
+                release(eventId, seats);
+            }
+        });
+    }
+
+    private void release(Long eventId, int seats) {
+        SeatCounter counter = counters.get(eventId);
+        if (counter != null) {
+            counter.release(seats);
+        }
+    }
+
+    public int getAvailableSeats(Long eventId) {
+        SeatCounter counter = counters.get(eventId);
+        return counter != null ? counter.available() : -1;
+    }
+
+    public void evict(Long eventId) {
+        counters.remove(eventId);
+    }
+
+    @Scheduled(fixedDelayString = "${booking.inventory.reconcile-interval-ms:30000}")
+    public void reconcile() {
+        counters.forEach(this::reconcile);
+    }
+
+    public void reconcile(Long eventId) {
+        SeatCounter counter = counters.get(eventId);
+        if (counter != null) {
+            reconcile(eventId, counter);
+        }
+    }
+
+    private SeatCounter counterFor(EventDto event) {
+        SeatCounter counter = counters.get(event.getId());
+        if (counter != null) {
+            return counter;
+        }
+        return ticketTally.whileQuiescent(() -> counters.computeIfAbsent(event.getId(),
+                id -> new SeatCounter(event.getTotalSeats() - heldSeats(id))));
+    }
+
+    private void reconcile(Long eventId, SeatCounter counter) {
+        try {
+            int totalSeats = totalSeats(eventId);
+            if (totalSeats < 0) {
+                return;
+            }
+            ticketTally.whileQuiescent(() -> {
+                int observed = counter.available();
+                int target = totalSeats - heldSeats(eventId) - counter.unsettled();
+                if (target != observed && counter.reset(observed, target)) {
+                    log.info("Reconciled seat inventory for event {}: {} -> {}", eventId, observed, target);
+                }
+                return null;
+            });
+        } catch (Exception e) {
+            log.warn("Seat inventory reconciliation failed for event {}: {}", eventId, e.getMessage());
+        }
+    }
+
+    private int totalSeats(Long eventId) {
+        SeatChangeDto replicated = seatAvailabilityReplica.get(eventId);
+        if (replicated != null) {
+            return replicated.getTotalSeats();
+        }
+        EventDto event = eventLookup.getEvent(eventId);
+        return event != null ? event.getTotalSeats() : -1;
+    }
+
+    private int heldSeats(Long eventId) {
+        return Math.toIntExact(ticketTally.tickets(eventId, HELD_STATUSES));
+    }
+}
@@ -0,0 +1,56 @@
+package com.femi.bookingservice.model;
+
+import com.femi.bookingservice.dto.EventStatus;
+import jakarta.persistence.*;
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.math.BigDecimal;
+import java.time.LocalDateTime;
+
+@Entity
+@Table(name = "booking_views", indexes = {
+        @Index(name = "idx_booking_views_user_booking", columnList = "user_id, booking_id"),
+        @Index(name = "idx_booking_views_event", columnList = "event_id")
+})
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+@Builder
+public class BookingView {
+
+    @Id
+    @Column(name = "booking_id")
+    private Long bookingId;
+
+    @Column(name = "user_id", nullable = false)
+    private Long userId;
+
+    @Column(name = "event_id", nullable = false)
+    private Long eventId;
+
+    @Column(nullable = false)
+    private int numberOfTickets;
+
+    @Column(nullable = false, precision = 10, scale = 2)
+    private BigDecimal totalPrice;
+
+    @Enumerated(EnumType.STRING)
+    @Column(nullable = false)
+    private BookingStatus status;
+
+    private LocalDateTime bookedAt;
+
+    private LocalDateTime updatedAt;
+
+    private String eventName;
+
+    private String eventVenue;
+
+    private LocalDateTime eventDateTime;
+
+    @Enumerated(EnumType.STRING)
+    private EventStatus eventStatus;
+}
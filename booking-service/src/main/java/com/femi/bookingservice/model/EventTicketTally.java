@@ -0,0 +1,25 @@
+package com.femi.bookingservice.model;
+
+import jakarta.persistence.Column;
+import jakarta.persistence.EmbeddedId;
+import jakarta.persistence.Entity;
+import jakarta.persistence.Table;
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+@Entity
+@Table(name = "event_ticket_tallies")
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+@Builder
+public class EventTicketTally {
+
+    @EmbeddedId
+    private EventTicketTallyId id;
+
+    @Column(nullable = false)
+    private long tickets;
+}
@@ -0,0 +1,7 @@
+package com.femi.bookingservice.model;
+
+public enum OutboxStatus {
+    PENDING,
+    PUBLISHED,
+    FAILED
+}
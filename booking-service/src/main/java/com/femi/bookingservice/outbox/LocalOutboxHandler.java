@@ -0,0 +1,18 @@
+package com.femi.bookingservice.outbox;
+
+import com.femi.bookingservice.model.OutboxMessage;
+import lombok.RequiredArgsConstructor;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.stereotype.Component;
+
+@Component
+@RequiredArgsConstructor
+public class LocalOutboxHandler implements OutboxHandler {
+
+    private final ApplicationEventPublisher applicationEventPublisher;
+
+    @Override
+    public void handle(OutboxMessage message) {
+        applicationEventPublisher.publishEvent(message);
+    }
+}
@@ -0,0 +1,57 @@
+package com.femi.bookingservice.outbox;
+
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.femi.bookingservice.dto.BookingChangeDto;
+import com.femi.bookingservice.model.Book;
+import com.femi.bookingservice.model.BookingStatus;
+import com.femi.bookingservice.model.OutboxMessage;
+import com.femi.bookingservice.model.OutboxStatus;
+import com.femi.bookingservice.repository.OutboxMessageRepository;
+import lombok.RequiredArgsConstructor;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.annotation.Propagation;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.time.LocalDateTime;
+
+@Component
+@RequiredArgsConstructor
+public class Outbox {
+
+    public static final String BOOKING_STATUS_CHANGED = "booking.status-changed";
+
+    private final OutboxMessageRepository outboxMessageRepository;
+    private final ObjectMapper objectMapper;
+
+    @Transactional(propagation = Propagation.MANDATORY)
+    public void bookingChanged(Book book, BookingStatus from, BookingStatus to) {
+        enqueue(book.getEventId(), BOOKING_STATUS_CHANGED, BookingChangeDto.builder()
+                .bookingId(book.getId())
+                .userId(book.getUserId())
+                .eventId(book.getEventId())
+                .numberOfTickets(book.getNumberOfTickets())
+                .from(from)
+                .to(to)
+                .build());
+    }
+
+    @Transactional(propagation = Propagation.MANDATORY)
+    public void enqueue(Long eventId, String type, Object payload) {
+        String json;
+        try {
+            json = objectMapper.writeValueAsString(payload);
+        } catch (JsonProcessingException e) {
+            throw new IllegalStateException("Cannot serialise outbox payload of type " + type, e);
+        }
+        LocalDateTime now = LocalDateTime.now();
+        outboxMessageRepository.save(OutboxMessage.builder()
+                .eventId(eventId)
+                .type(type)
+                .payload(json)
+                .status(OutboxStatus.PENDING)
+                .nextAttemptAt(now)
+                .createdAt(now)
+                .build());
+    }
+}
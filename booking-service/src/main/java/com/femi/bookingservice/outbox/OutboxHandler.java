@@ -0,0 +1,8 @@
+package com.femi.bookingservice.outbox;
+
+import com.femi.bookingservice.model.OutboxMessage;
+
+public interface OutboxHandler {
+
+    void handle(OutboxMessage message) throws Exception;
+}
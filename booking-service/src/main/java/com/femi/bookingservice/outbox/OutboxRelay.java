@@ -0,0 +1,147 @@
+package com.femi.bookingservice.outbox;
+
+import com.femi.bookingservice.model.OutboxMessage;
+import com.femi.bookingservice.model.OutboxStatus;
+import com.femi.bookingservice.repository.OutboxMessageRepository;
+import com.femi.bookingservice.repository.OutboxRelayLeaseRepository;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.dao.DataIntegrityViolationException;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+import java.time.LocalDateTime;
+import java.time.temporal.ChronoUnit;
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.UUID;
+
+@Component
+@Slf4j
+public class OutboxRelay {
+
+    // NOT IN () is not valid SQL, so an empty exclusion list gets an id no event has.
+    private static final List<Long> NO_EVENTS = List.of(-1L);
+    private static final String LEASE = "outbox-relay";
+
+    private final OutboxMessageRepository outboxMessageRepository;
+    private final OutboxRelayLeaseRepository outboxRelayLeaseRepository;
+    private final OutboxHandler outboxHandler;
+    private final boolean enabled;
+    private final int batchSize;
+    private final int maxAttempts;
+    private final long backoffBaseMs;
+    private final long backoffMaxMs;
+    private final long retentionHours;
+    private final long leaseMs;
+    private final String owner = UUID.randomUUID().toString();
+
+    public OutboxRelay(OutboxMessageRepository outboxMessageRepository,
+                       OutboxRelayLeaseRepository outboxRelayLeaseRepository,
+                       OutboxHandler outboxHandler,
+                       @Value("${booking.outbox.relay-enabled:true}") boolean enabled,
+                       @Value("${booking.outbox.batch-size:100}") int batchSize,
+                       @Value("${booking.outbox.max-attempts:10}") int maxAttempts,
+                       @Value("${booking.outbox.backoff-base-ms:1000}") long backoffBaseMs,
+                       @Value("${booking.outbox.backoff-max-ms:300000}") long backoffMaxMs,
+                       @Value("${booking.outbox.retention-hours:24}") long retentionHours,
+                       @Value("${booking.outbox.lease-ms:10000}") long leaseMs) {
+        this.outboxMessageRepository = outboxMessageRepository;
+        this.outboxRelayLeaseRepository = outboxRelayLeaseRepository;
+        this.outboxHandler = outboxHandler;
+        this.enabled = enabled;
+        this.batchSize = batchSize;
+        this.maxAttempts = maxAttempts;
+        this.backoffBaseMs = backoffBaseMs;
+        this.backoffMaxMs = backoffMaxMs;
+        this.retentionHours = retentionHours;
+        this.leaseMs = leaseMs;
+    }
+
+    @Scheduled(fixedDelayString = "${booking.outbox.relay-interval-ms:200}")
+    public void relay() {
+        if (!enabled) {
+            return;
+        }
+        LocalDateTime now = LocalDateTime.now();
+        while (holdLease(now) && drain(now) == batchSize) {
+            // keep going while there is a backlog
+            now = LocalDateTime.now();
+        }
+    }
+
+    // Only the lease holder drains; two relays would lose the per-event delivery order
+    boolean holdLease(LocalDateTime now) {
+        LocalDateTime until = now.plus(leaseMs, ChronoUnit.MILLIS);
+        if (outboxRelayLeaseRepository.renew(LEASE, owner, now, until) == 1) {
+            return true;
+        }
+        if (outboxRelayLeaseRepository.existsById(LEASE)) {
+            return false;
+        }
+        try {
+            return outboxRelayLeaseRepository.create(LEASE, owner, until) == 1;
+        } catch (DataIntegrityViolationException e) {
+            return false;
+        }
+    }
+
+    int drain(LocalDateTime now) {
+        List<Long> backedOff = outboxMessageRepository.findBackedOffEventIds(now);
+        List<OutboxMessage> due = outboxMessageRepository.findDue(now, backedOff.isEmpty() ? NO_EVENTS : backedOff,
+                PageRequest.of(0, batchSize));
+        if (due.isEmpty()) {
+            return 0;
+        }
+
+        Map<Long, List<OutboxMessage>> byEvent = new LinkedHashMap<>();
+        due.forEach(message -> byEvent.computeIfAbsent(message.getEventId(), id -> new ArrayList<>()).add(message));
+
+        List<Long> delivered = new ArrayList<>(due.size());
+        for (List<OutboxMessage> messages : byEvent.values()) {
+            for (OutboxMessage message : messages) {
+                try {
+                    outboxHandler.handle(message);
+                    delivered.add(message.getId());
+                } catch (Exception e) {
+                    recordFailure(message, e, now);
+                    break;
+                }
+            }
+        }
+        if (!delivered.isEmpty()) {
+            outboxMessageRepository.markPublished(delivered, now);
+        }
+        return due.size();
+    }
+
+    @Scheduled(fixedDelayString = "${booking.outbox.cleanup-interval-ms:3600000}")
+    public void purgePublished() {
+        int deleted = outboxMessageRepository.deletePublishedBefore(LocalDateTime.now().minusHours(retentionHours));
+        if (deleted > 0) {
+            log.info("Purged {} published outbox messages", deleted);
+        }
+    }
+
+    private void recordFailure(OutboxMessage message, Exception e, LocalDateTime now) {
+        int attempts = message.getAttempts() + 1;
+        String error = e.getClass().getSimpleName() + ": " + e.getMessage();
+        if (error.length() > 500) {
+            error = error.substring(0, 500);
+        }
+        if (attempts >= maxAttempts) {
+            outboxMessageRepository.recordFailure(message.getId(), attempts, OutboxStatus.FAILED, now, error);
+            log.error("Outbox message {} ({}) for event {} failed {} times and was parked: {}",
+                    message.getId(), message.getType(), message.getEventId(), attempts, error);
+            return;
+        }
+        long delayMs = Math.min(backoffMaxMs, backoffBaseMs << Math.min(attempts - 1, 30));
+        outboxMessageRepository.recordFailure(message.getId(), attempts, OutboxStatus.PENDING,
+                now.plus(delayMs, ChronoUnit.MILLIS), error);
+        log.warn("Outbox message {} for event {} failed (attempt {}), retrying in {} ms: {}",
+                message.getId(), message.getEventId(), attempts, delayMs, error);
+    }
+}
@@ -0,0 +1,125 @@
+package com.femi.bookingservice.readmodel;
+
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.femi.bookingservice.client.EventLookup;
+import com.femi.bookingservice.dto.BookingChangeDto;
+import com.femi.bookingservice.dto.EventDto;
+import com.femi.bookingservice.dto.SeatChangeDto;
+import com.femi.bookingservice.inventory.SeatAvailabilityReplica;
+import com.femi.bookingservice.model.Book;
+import com.femi.bookingservice.model.BookingView;
+import com.femi.bookingservice.model.OutboxMessage;
+import com.femi.bookingservice.outbox.Outbox;
+import com.femi.bookingservice.repository.BookingRepository;
+import com.femi.bookingservice.repository.BookingViewRepository;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.stereotype.Component;
+
+import java.util.List;
+
+@Component
+@RequiredArgsConstructor
+@Slf4j
+public class BookingViewProjector {
+
+    private final BookingRepository bookingRepository;
+    private final BookingViewRepository bookingViewRepository;
+    private final SeatAvailabilityReplica seatAvailabilityReplica;
+    private final EventLookup eventLookup;
+    private final ObjectMapper objectMapper;
+
+    @Value("${booking.view.backfill-batch-size:500}")
+    private int backfillBatchSize;
+
+    @EventListener
+    public void onOutboxMessage(OutboxMessage message) throws JsonProcessingException {
+        if (Outbox.BOOKING_STATUS_CHANGED.equals(message.getType())) {
+            project(objectMapper.readValue(message.getPayload(), BookingChangeDto.class).getBookingId());
+        }
+    }
+
+    @EventListener
+    public void onEventChanged(SeatChangeDto change) {
+        if (change.getName() == null) {
+            return;
+        }
+        int updated = bookingViewRepository.updateEventSnapshot(change.getEventId(), change.getName(), change.getVenue(),
+                change.getEventDateTime(), change.getStatus());
+        if (updated > 0) {
+            log.debug("Refreshed event {} on {} booking views", change.getEventId(), updated);
+        }
+    }
+
+    public void project(Long bookingId) {
+        Book book = bookingRepository.findById(bookingId).orElse(null);
+        if (book == null) {
+            return;
+        }
+        // The event snapshot is only written with a new view; an existing one keeps its own
+        BookingView view = bookingViewRepository.findById(bookingId).orElse(null);
+        if (view == null) {
+            view = BookingView.builder().bookingId(bookingId).build();
+            copyEvent(view, book.getEventId());
+        }
+        view.setUserId(book.getUserId());
+        view.setEventId(book.getEventId());
+        view.setNumberOfTickets(book.getNumberOfTickets());
+        view.setTotalPrice(book.getTotalPrice());
+        view.setStatus(book.getStatus());
+        view.setBookedAt(book.getCreatedAt());
+        view.setUpdatedAt(book.getUpdatedAt());
+        bookingViewRepository.upsert(view);
+    }
+
+    @EventListener(ApplicationReadyEvent.class)
+    public void startBackfill() {
+        Thread.ofVirtual().name("booking-view-backfill").start(this::backfill);
+    }
+
+    public void backfill() {
+        long afterId = 0;
+        int projected = 0;
+        while (true) {
+            List<Book> missing = bookingRepository.findWithoutView(afterId, PageRequest.of(0, backfillBatchSize));
+            if (missing.isEmpty()) {
+                break;
+            }
+            for (Book book : missing) {
+                try {
+                    project(book.getId());
+                    projected++;
+                } catch (RuntimeException e) {
+                    log.warn("Could not build the view for booking {}: {}", book.getId(), e.getMessage());
+                }
+            }
+            afterId = missing.get(missing.size() - 1).getId();
+        }
+        if (projected > 0) {
+            log.info("Backfilled {} booking views", projected);
+        }
+    }
+
+    private void copyEvent(BookingView view, Long eventId) {
+        SeatChangeDto replicated = seatAvailabilityReplica.get(eventId);
+        if (replicated != null && replicated.getName() != null) {
+            view.setEventName(replicated.getName());
+            view.setEventVenue(replicated.getVenue());
+            view.setEventDateTime(replicated.getEventDateTime());
+            view.setEventStatus(replicated.getStatus());
+            return;
+        }
+        EventDto event = eventLookup.getEvent(eventId);
+        if (event != null) {
+            view.setEventName(event.getName());
+            view.setEventVenue(event.getVenue());
+            view.setEventDateTime(event.getEventDateTime());
+            view.setEventStatus(event.getStatus());
+        }
+    }
+}
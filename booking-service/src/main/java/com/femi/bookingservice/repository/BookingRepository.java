@@ -1,12 +1,19 @@
 package com.femi.bookingservice.repository;
 
+import com.femi.bookingservice.dto.TicketCountDto;
 import com.femi.bookingservice.model.Book;
 import com.femi.bookingservice.model.BookingStatus;
+import jakarta.persistence.LockModeType;
+import org.springframework.data.domain.Pageable;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Lock;
+import org.springframework.data.jpa.repository.Modifying;
 import org.springframework.data.jpa.repository.Query;
 import org.springframework.data.repository.query.Param;
+import org.springframework.transaction.annotation.Transactional;
 
 import java.time.LocalDateTime;
+import java.util.Collection;
 import java.util.List;
 import java.util.Optional;
 
@@ -17,9 +24,21 @@ public interface BookingRepository extends JpaRepository<Book, Long> {
     Optional<Book> findByUserIdAndEventId(Long userId, Long eventId);
     List<Book> findByUserIdAndStatus(Long userId, BookingStatus status);
     List<Book> findByCreatedAtBetween(LocalDateTime startDate, LocalDateTime endDate);
-    @Query("SELECT COALESCE(SUM(b.numberOfTickets), 0) FROM Book b WHERE b.eventId = :eventId AND b.status IN :statuses")
-    Integer countTicketsByEventIdAndStatusIn(@Param("eventId") Long eventId, @Param("statuses") List<BookingStatus> statuses);
+    @Query("SELECT new com.femi.bookingservice.dto.TicketCountDto(b.eventId, b.status, SUM(b.numberOfTickets)) FROM Book b GROUP BY b.eventId, b.status")
+    List<TicketCountDto> countTicketsByEventAndStatus();
     boolean existsByUserIdAndEventIdAndStatusIn(Long userId, Long eventId, List<BookingStatus> statuses);
     @Query("SELECT b FROM Book b WHERE b.status = 'PENDING' AND b.createdAt < :cutoffTime")
     List<Book> findExpiredPendingBookings(@Param("cutoffTime") LocalDateTime cutoffTime);
+    @Transactional
+    @Modifying(clearAutomatically = true)
+    @Query("UPDATE Book b SET b.status = :to, b.updatedAt = :now WHERE b.id = :id AND b.status IN :from")
+    int updateStatus(@Param("id") Long id, @Param("from") List<BookingStatus> from, @Param("to") BookingStatus to, @Param("now") LocalDateTime now);
+    @Lock(LockModeType.PESSIMISTIC_WRITE)
+    @Query("SELECT b FROM Book b WHERE b.id IN :ids AND b.status = 'PENDING'")
+    List<Book> findPendingByIdInForUpdate(@Param("ids") Collection<Long> ids);
+    @Query("SELECT b FROM Book b WHERE b.id > :afterId AND NOT EXISTS (SELECT 1 FROM BookingView v WHERE v.bookingId = b.id) ORDER BY b.id")
+    List<Book> findWithoutView(@Param("afterId") Long afterId, Pageable pageable);
+    @Modifying(clearAutomatically = true)
+    @Query("UPDATE Book b SET b.status = :to, b.updatedAt = :now WHERE b.id IN :ids AND b.status = :from")
+    int bulkUpdateStatus(@Param("ids") Collection<Long> ids, @Param("from") BookingStatus from, @Param("to") BookingStatus to, @Param("now") LocalDateTime now);
 }
@@ -0,0 +1,42 @@
+package com.femi.bookingservice.repository;
+
+import com.femi.bookingservice.dto.EventStatus;
+import com.femi.bookingservice.model.BookingView;
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.time.LocalDateTime;
+import java.util.List;
+
+public interface BookingViewRepository extends JpaRepository<BookingView, Long> {
+    @Query("SELECT v FROM BookingView v WHERE v.userId = :userId AND (:beforeId IS NULL OR v.bookingId < :beforeId) ORDER BY v.bookingId DESC")
+    List<BookingView> findPage(@Param("userId") Long userId, @Param("beforeId") Long beforeId, Pageable pageable);
+    @Query("SELECT v FROM BookingView v WHERE v.eventId = :eventId AND (:beforeId IS NULL OR v.bookingId < :beforeId) ORDER BY v.bookingId DESC")
+    List<BookingView> findEventPage(@Param("eventId") Long eventId, @Param("beforeId") Long beforeId, Pageable pageable);
+    @Transactional
+    @Modifying
+    @Query(value = "INSERT INTO booking_views (booking_id, user_id, event_id, number_of_tickets, total_price, status, booked_at, updated_at, " +
+            "event_name, event_venue, event_date_time, event_status) " +
+            "VALUES (:#{#view.bookingId}, :#{#view.userId}, :#{#view.eventId}, :#{#view.numberOfTickets}, :#{#view.totalPrice}, " +
+            ":#{#view.status.name()}, :#{#view.bookedAt}, :#{#view.updatedAt}, :#{#view.eventName}, :#{#view.eventVenue}, " +
+            ":#{#view.eventDateTime}, :#{#view.eventStatus?.name()}) " +
+            "ON DUPLICATE KEY UPDATE " +
+            "status = CASE WHEN updated_at IS NULL OR updated_at <= :#{#view.updatedAt} THEN :#{#view.status.name()} ELSE status END, " +
+            "updated_at = CASE WHEN updated_at IS NULL OR updated_at <= :#{#view.updatedAt} THEN :#{#view.updatedAt} ELSE updated_at END",
+            nativeQuery = true)
+    int upsert(@Param("view") BookingView view);
+    @Transactional
+    @Modifying
+    @Query("UPDATE BookingView v SET v.eventName = :name, v.eventVenue = :venue, v.eventDateTime = :eventDateTime, v.eventStatus = :status " +
+            "WHERE v.eventId = :eventId AND (v.eventName IS NULL OR v.eventName <> :name OR v.eventVenue IS NULL OR v.eventVenue <> :venue " +
+            "OR v.eventDateTime IS NULL OR v.eventDateTime <> :eventDateTime OR v.eventStatus IS NULL OR v.eventStatus <> :status)")
+    int updateEventSnapshot(@Param("eventId") Long eventId,
+                            @Param("name") String name,
+                            @Param("venue") String venue,
+                            @Param("eventDateTime") LocalDateTime eventDateTime,
+                            @Param("status") EventStatus status);
+}
@@ -0,0 +1,31 @@
+package com.femi.bookingservice.repository;
+
+import com.femi.bookingservice.model.IdempotencyKey;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.time.LocalDateTime;
+import java.util.Optional;
+
+public interface IdempotencyKeyRepository extends JpaRepository<IdempotencyKey, Long> {
+    Optional<IdempotencyKey> findByUserIdAndIdempotencyKey(Long userId, String idempotencyKey);
+    @Transactional
+    @Modifying
+    @Query("UPDATE IdempotencyKey k SET k.bookingId = :bookingId WHERE k.id = :id AND k.bookingId IS NULL")
+    int complete(@Param("id") Long id, @Param("bookingId") Long bookingId);
+    @Transactional
+    @Modifying
+    @Query("DELETE FROM IdempotencyKey k WHERE k.id = :id AND k.bookingId IS NULL")
+    int deleteClaim(@Param("id") Long id);
+    @Transactional
+    @Modifying
+    @Query("DELETE FROM IdempotencyKey k WHERE k.id = :id AND (k.expiresAt < :now OR (k.bookingId IS NULL AND k.createdAt < :staleBefore))")
+    int deleteIfReclaimable(@Param("id") Long id, @Param("now") LocalDateTime now, @Param("staleBefore") LocalDateTime staleBefore);
+    @Transactional
+    @Modifying
+    @Query("DELETE FROM IdempotencyKey k WHERE k.expiresAt < :now")
+    int deleteExpired(@Param("now") LocalDateTime now);
+}
@@ -0,0 +1,44 @@
+package com.femi.bookingservice.repository;
+
+import com.femi.bookingservice.model.OutboxMessage;
+import com.femi.bookingservice.model.OutboxStatus;
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.time.LocalDateTime;
+import java.util.Collection;
+import java.util.List;
+
+public interface OutboxMessageRepository extends JpaRepository<OutboxMessage, Long> {
+    @Query("SELECT DISTINCT m.eventId FROM OutboxMessage m " +
+            "WHERE m.status = com.femi.bookingservice.model.OutboxStatus.PENDING AND m.nextAttemptAt > :now")
+    List<Long> findBackedOffEventIds(@Param("now") LocalDateTime now);
+    @Query("SELECT m FROM OutboxMessage m " +
+            "WHERE m.status = com.femi.bookingservice.model.OutboxStatus.PENDING AND m.nextAttemptAt <= :now " +
+            "AND m.eventId NOT IN :excludedEventIds ORDER BY m.id")
+    List<OutboxMessage> findDue(@Param("now") LocalDateTime now,
+                                @Param("excludedEventIds") Collection<Long> excludedEventIds,
+                                Pageable pageable);
+    @Transactional
+    @Modifying
+    @Query("UPDATE OutboxMessage m SET m.status = com.femi.bookingservice.model.OutboxStatus.PUBLISHED, m.publishedAt = :now " +
+            "WHERE m.id IN :ids AND m.status = com.femi.bookingservice.model.OutboxStatus.PENDING")
+    int markPublished(@Param("ids") Collection<Long> ids, @Param("now") LocalDateTime now);
+    @Transactional
+    @Modifying
+    @Query("UPDATE OutboxMessage m SET m.attempts = :attempts, m.status = :status, m.nextAttemptAt = :nextAttemptAt, m.lastError = :error " +
+            "WHERE m.id = :id")
+    int recordFailure(@Param("id") Long id,
+                      @Param("attempts") int attempts,
+                      @Param("status") OutboxStatus status,
+                      @Param("nextAttemptAt") LocalDateTime nextAttemptAt,
+                      @Param("error") String error);
+    @Transactional
+    @Modifying
+    @Query("DELETE FROM OutboxMessage m WHERE m.status = com.femi.bookingservice.model.OutboxStatus.PUBLISHED AND m.publishedAt < :before")
+    int deletePublishedBefore(@Param("before") LocalDateTime before);
+}
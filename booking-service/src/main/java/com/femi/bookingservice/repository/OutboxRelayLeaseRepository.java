@@ -0,0 +1,26 @@
+package com.femi.bookingservice.repository;
+
+import com.femi.bookingservice.model.OutboxRelayLease;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.time.LocalDateTime;
+
+public interface OutboxRelayLeaseRepository extends JpaRepository<OutboxRelayLease, String> {
+    @Transactional
+    @Modifying
+    @Query("UPDATE OutboxRelayLease l SET l.owner = :owner, l.expiresAt = :until " +
+            "WHERE l.name = :name AND (l.owner = :owner OR l.expiresAt <= :now)")
+    int renew(@Param("name") String name,
+              @Param("owner") String owner,
+              @Param("now") LocalDateTime now,
+              @Param("until") LocalDateTime until);
+    // A plain insert, so two instances creating the lease at once fail on the key instead of both owning it
+    @Transactional
+    @Modifying
+    @Query(value = "INSERT INTO outbox_relay_leases (name, owner, expires_at) VALUES (:name, :owner, :until)", nativeQuery = true)
+    int create(@Param("name") String name, @Param("owner") String owner, @Param("until") LocalDateTime until);
+}
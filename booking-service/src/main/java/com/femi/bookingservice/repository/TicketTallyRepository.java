@@ -0,0 +1,21 @@
+package com.femi.bookingservice.repository;
+
+import com.femi.bookingservice.model.EventTicketTally;
+import com.femi.bookingservice.model.EventTicketTallyId;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+
+import java.util.Collection;
+import java.util.List;
+
+public interface TicketTallyRepository extends JpaRepository<EventTicketTally, EventTicketTallyId> {
+    @Modifying
+    @Query(value = "INSERT INTO event_ticket_tallies (event_id, status, tickets) VALUES (:eventId, :status, :delta) " +
+            "ON DUPLICATE KEY UPDATE tickets = tickets + :delta", nativeQuery = true)
+    int add(@Param("eventId") Long eventId, @Param("status") String status, @Param("delta") long delta);
+    @Query(value = "SELECT tickets FROM event_ticket_tallies WHERE event_id = :eventId AND status IN (:statuses) FOR UPDATE",
+            nativeQuery = true)
+    List<Long> findTicketsForUpdate(@Param("eventId") Long eventId, @Param("statuses") Collection<String> statuses);
+}
@@ -0,0 +1,32 @@
+package com.femi.bookingservice.repository;
+
+import com.femi.bookingservice.model.WaitlistEntry;
+import com.femi.bookingservice.model.WaitlistStatus;
+import jakarta.persistence.LockModeType;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Lock;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.time.LocalDateTime;
+import java.util.Collection;
+import java.util.List;
+
+public interface WaitlistRepository extends JpaRepository<WaitlistEntry, Long> {
+    List<WaitlistEntry> findByStatus(WaitlistStatus status);
+    List<WaitlistEntry> findByUserIdOrderByIdDesc(Long userId);
+    boolean existsByUserIdAndEventIdAndStatus(Long userId, Long eventId, WaitlistStatus status);
+    @Lock(LockModeType.PESSIMISTIC_WRITE)
+    @Query("SELECT e FROM WaitlistEntry e WHERE e.id IN :ids AND e.status = 'WAITING'")
+    List<WaitlistEntry> findWaitingByIdInForUpdate(@Param("ids") Collection<Long> ids);
+    @Transactional
+    @Modifying
+    @Query("UPDATE WaitlistEntry e SET e.status = 'CANCELLED', e.updatedAt = :now WHERE e.id = :id AND e.status = 'WAITING'")
+    int cancel(@Param("id") Long id, @Param("now") LocalDateTime now);
+    @Transactional
+    @Modifying
+    @Query("UPDATE WaitlistEntry e SET e.status = 'CANCELLED', e.updatedAt = :now WHERE e.eventId = :eventId AND e.status = 'WAITING'")
+    int cancelAllForEvent(@Param("eventId") Long eventId, @Param("now") LocalDateTime now);
+}
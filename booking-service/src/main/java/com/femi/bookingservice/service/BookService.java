@@ -1,12 +1,145 @@
 package com.femi.bookingservice.service;
 
+import com.femi.bookingservice.client.EventLookup;
+import com.femi.bookingservice.dto.EventDto;
+import com.femi.bookingservice.dto.EventStatus;
+import com.femi.bookingservice.dto.Role;
+import com.femi.bookingservice.dto.UserDto;
+import com.femi.bookingservice.exceptions.BookingNotFoundException;
+import com.femi.bookingservice.exceptions.EventNotAvailableException;
+import com.femi.bookingservice.exceptions.InsufficientSeatsException;
+import com.femi.bookingservice.exceptions.InvalidBookingStateException;
+import com.femi.common.exceptions.UnauthorizedException;
+import com.femi.bookingservice.expiry.BookingExpiryScheduler;
+import com.femi.bookingservice.idempotency.IdempotencyStore;
+import com.femi.bookingservice.inventory.SeatInventory;
+import com.femi.bookingservice.model.Book;
+import com.femi.bookingservice.model.BookingStatus;
+import com.femi.bookingservice.model.IdempotencyKey;
 import com.femi.bookingservice.repository.BookingRepository;
+import com.femi.bookingservice.waitlist.WaitQueue;
 import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
 import org.springframework.stereotype.Service;
 
+import java.math.BigDecimal;
+import java.util.List;
+
 @Service
 @RequiredArgsConstructor
+@Slf4j
 public class BookService {
 
+    private static final List<BookingStatus> ACTIVE_STATUSES = List.of(BookingStatus.PENDING, BookingStatus.CONFIRMED);
+    private static final int MAX_IDEMPOTENCY_KEY_LENGTH = 100;
+
     private final BookingRepository bookingRepository;
+    private final BookingStatusService bookingStatusService;
+    private final EventLookup eventLookup;
+    private final SeatInventory seatInventory;
+    private final BookingExpiryScheduler bookingExpiryScheduler;
+    private final IdempotencyStore idempotencyStore;
+    private final WaitQueue waitQueue;
+
+    public Book createBooking(Long userId, Long eventId, int numberOfTickets, String idempotencyKey) {
+        if (numberOfTickets < 1) {
+            throw new IllegalArgumentException("Number of tickets must be at least 1");
+        }
+        if (idempotencyKey == null) {
+            return placeBooking(userId, eventId, numberOfTickets, null);
+        }
+        if (idempotencyKey.isBlank() || idempotencyKey.length() > MAX_IDEMPOTENCY_KEY_LENGTH) {
+            throw new IllegalArgumentException("Idempotency key must be 1 to " + MAX_IDEMPOTENCY_KEY_LENGTH + " characters");
+        }
+
+        IdempotencyKey claim = idempotencyStore.begin(userId, idempotencyKey, eventId + ":" + numberOfTickets);
+        if (claim.getBookingId() != null) {
+            log.info("Replaying booking {} for idempotency key of user {}", claim.getBookingId(), userId);
+            return getBookingById(claim.getBookingId());
+        }
+        try {
+            return placeBooking(userId, eventId, numberOfTickets, claim);
+        } catch (RuntimeException e) {
+            idempotencyStore.abandon(claim);
+            throw e;
+        }
+    }
+
+    private Book placeBooking(Long userId, Long eventId, int numberOfTickets, IdempotencyKey claim) {
+        EventDto event = eventLookup.getEvent(eventId);
+        if (event == null || event.getStatus() == EventStatus.CANCELLED || event.getStatus() == EventStatus.COMPLETED) {
+            throw new EventNotAvailableException("Event is not available for booking");
+        }
+
+        // Seats freed while people are queueing belong to the waitlist, not to whoever retries first.
+        if (waitQueue.size(eventId) > 0) {
+            throw new InsufficientSeatsException("Event is sold out, join the waitlist");
+        }
+
+        if (bookingRepository.existsByUserIdAndEventIdAndStatusIn(userId, eventId, ACTIVE_STATUSES)) {
+            throw new InvalidBookingStateException("User already has an active booking for this event");
+        }
+
+        if (!seatInventory.tryHold(event, numberOfTickets)) {
+            throw new InsufficientSeatsException("Not enough seats available");
+        }
+
+        Book book = Book.builder()
+                .eventId(eventId)
+                .userId(userId)
+                .numberOfTickets(numberOfTickets)
+                .totalPrice(event.getTicketPrice().multiply(BigDecimal.valueOf(numberOfTickets)))
+                .status(BookingStatus.PENDING)
+                .build();
+
+        Book saved;
+        try {
+            saved = bookingStatusService.create(book, event.getTotalSeats(), claim);
+        } catch (InsufficientSeatsException e) {
+            // Another instance sold the seats this counter still showed as free.
+            seatInventory.abort(eventId, numberOfTickets);
+            seatInventory.reconcile(eventId);
+            throw e;
+        } catch (RuntimeException e) {
+            seatInventory.abort(eventId, numberOfTickets);
+            throw e;
+        }
+        seatInventory.settle(eventId, numberOfTickets);
+        bookingExpiryScheduler.schedule(saved);
+
+        log.info("Booking {} created for user {} on event {}", saved.getId(), userId, eventId);
+        return saved;
+    }
+
+    public Book confirmBooking(Long bookingId) {
+        Book book = getBookingById(bookingId);
+        if (bookingStatusService.transition(book, List.of(BookingStatus.PENDING), BookingStatus.CONFIRMED) == null) {
+            throw new InvalidBookingStateException("Only pending bookings can be confirmed");
+        }
+        bookingExpiryScheduler.cancel(bookingId);
+        return getBookingById(bookingId);
+    }
+
+    public Book cancelBooking(Long bookingId) {
+        Book book = getBookingById(bookingId);
+        if (bookingStatusService.transition(book, ACTIVE_STATUSES, BookingStatus.CANCELLED) == null) {
+            throw new InvalidBookingStateException("Booking is no longer active");
+        }
+        bookingExpiryScheduler.cancel(bookingId);
+        log.info("Booking {} cancelled, released {} seats on event {}", bookingId, book.getNumberOfTickets(), book.getEventId());
+        return getBookingById(bookingId);
+    }
+
+    public Book getBookingById(Long bookingId) {
+        return bookingRepository.findById(bookingId)
+                .orElseThrow(() -> new BookingNotFoundException("Booking not found"));
+    }
+
+    public Book getBookingForUser(Long bookingId, UserDto user) {
+        Book book = getBookingById(bookingId);
+        if (!book.getUserId().equals(user.getId()) && !Role.ADMIN.equals(user.getRole())) {
+            throw new UnauthorizedException("You can only access your own bookings");
+        }
+        return book;
+    }
 }
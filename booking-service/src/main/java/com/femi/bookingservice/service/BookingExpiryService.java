@@ -0,0 +1,48 @@
+package com.femi.bookingservice.service;
+
+import com.femi.bookingservice.inventory.SeatInventory;
+import com.femi.bookingservice.model.Book;
+import com.femi.bookingservice.model.BookingStatus;
+import com.femi.bookingservice.outbox.Outbox;
+import com.femi.bookingservice.repository.BookingRepository;
+import com.femi.bookingservice.tally.TicketTally;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.time.LocalDateTime;
+import java.util.Collection;
+import java.util.List;
+import java.util.stream.Collectors;
+
+@Service
+@RequiredArgsConstructor
+@Slf4j
+public class BookingExpiryService {
+
+    private final BookingRepository bookingRepository;
+    private final TicketTally ticketTally;
+    private final Outbox outbox;
+    private final SeatInventory seatInventory;
+
+    @Transactional
+    public List<Book> expire(Collection<Long> bookingIds) {
+        List<Book> pending = bookingRepository.findPendingByIdInForUpdate(bookingIds);
+        if (pending.isEmpty()) {
+            return pending;
+        }
+
+        List<Long> ids = pending.stream().map(Book::getId).toList();
+        int updated = bookingRepository.bulkUpdateStatus(ids, BookingStatus.PENDING, BookingStatus.EXPIRED, LocalDateTime.now());
+        pending.stream()
+                .collect(Collectors.groupingBy(Book::getEventId, Collectors.summingLong(Book::getNumberOfTickets)))
+                .forEach((eventId, tickets) -> {
+                    ticketTally.record(eventId, BookingStatus.PENDING, BookingStatus.EXPIRED, tickets);
+                    seatInventory.releaseOnCommit(eventId, Math.toIntExact(tickets));
+                });
+        pending.forEach(book -> outbox.bookingChanged(book, BookingStatus.PENDING, BookingStatus.EXPIRED));
+        log.info("Expired {} pending bookings", updated);
+        return pending;
+    }
+}
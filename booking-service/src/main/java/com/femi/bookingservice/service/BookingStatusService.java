@@ -0,0 +1,61 @@
+package com.femi.bookingservice.service;
+
+import com.femi.bookingservice.exceptions.InsufficientSeatsException;
+import com.femi.bookingservice.idempotency.IdempotencyStore;
+import com.femi.bookingservice.inventory.SeatInventory;
+import com.femi.bookingservice.model.Book;
+import com.femi.bookingservice.model.BookingStatus;
+import com.femi.bookingservice.model.IdempotencyKey;
+import com.femi.bookingservice.outbox.Outbox;
+import com.femi.bookingservice.repository.BookingRepository;
+import com.femi.bookingservice.tally.TicketTally;
+import lombok.RequiredArgsConstructor;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.time.LocalDateTime;
+import java.util.List;
+
+@Service
+@RequiredArgsConstructor
+public class BookingStatusService {
+
+    private final BookingRepository bookingRepository;
+    private final TicketTally ticketTally;
+    private final IdempotencyStore idempotencyStore;
+    private final Outbox outbox;
+    private final SeatInventory seatInventory;
+
+    // The in-memory counters only see this instance's holds; the locked tallies are the
+    // authority, so two instances can never hand out the same seats.
+    @Transactional
+    public Book create(Book book, int totalSeats, IdempotencyKey claim) {
+        long held = ticketTally.lockTickets(book.getEventId(), SeatInventory.HELD_STATUSES);
+        if (held + book.getNumberOfTickets() > totalSeats) {
+            throw new InsufficientSeatsException("Not enough seats available");
+        }
+        Book saved = bookingRepository.save(book);
+        ticketTally.record(saved.getEventId(), null, saved.getStatus(), saved.getNumberOfTickets());
+        outbox.bookingChanged(saved, null, saved.getStatus());
+        if (claim != null) {
+            idempotencyStore.complete(claim, saved.getId());
+        }
+        return saved;
+    }
+
+    @Transactional
+    public BookingStatus transition(Book book, List<BookingStatus> from, BookingStatus to) {
+        LocalDateTime now = LocalDateTime.now();
+        for (BookingStatus status : from) {
+            if (bookingRepository.updateStatus(book.getId(), List.of(status), to, now) > 0) {
+                ticketTally.record(book.getEventId(), status, to, book.getNumberOfTickets());
+                if (SeatInventory.HELD_STATUSES.contains(status) && !SeatInventory.HELD_STATUSES.contains(to)) {
+                    seatInventory.releaseOnCommit(book.getEventId(), book.getNumberOfTickets());
+                }
+                outbox.bookingChanged(book, status, to);
+                return status;
+            }
+        }
+        return null;
+    }
+}
@@ -0,0 +1,100 @@
+package com.femi.bookingservice.service;
+
+import com.femi.bookingservice.client.UserBatcher;
+import com.femi.bookingservice.dto.BookingViewPageDto;
+import com.femi.bookingservice.dto.EventBookingDto;
+import com.femi.bookingservice.dto.EventBookingPageDto;
+import com.femi.bookingservice.dto.Role;
+import com.femi.bookingservice.dto.UserDto;
+import com.femi.bookingservice.exceptions.InvalidCursorException;
+import com.femi.bookingservice.model.BookingView;
+import com.femi.bookingservice.repository.BookingViewRepository;
+import com.femi.common.exceptions.UnauthorizedException;
+import lombok.RequiredArgsConstructor;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.stereotype.Service;
+
+import java.nio.charset.StandardCharsets;
+import java.util.Base64;
+import java.util.List;
+import java.util.Map;
+
+@Service
+@RequiredArgsConstructor
+public class BookingViewService {
+
+    public static final int DEFAULT_PAGE_SIZE = 20;
+    public static final int MAX_PAGE_SIZE = 100;
+
+    private final BookingViewRepository bookingViewRepository;
+    private final UserBatcher userBatcher;
+
+    public BookingViewPageDto getBookings(Long userId, String cursor, int size) {
+        int pageSize = pageSize(size);
+        List<BookingView> rows = bookingViewRepository.findPage(userId, beforeId(cursor), PageRequest.of(0, pageSize + 1));
+
+        boolean hasMore = rows.size() > pageSize;
+        List<BookingView> bookings = hasMore ? List.copyOf(rows.subList(0, pageSize)) : rows;
+
+        return BookingViewPageDto.builder()
+                .bookings(bookings)
+                .nextCursor(hasMore ? cursor(bookings.get(bookings.size() - 1)) : null)
+                .hasMore(hasMore)
+                .build();
+    }
+
+    public EventBookingPageDto getEventBookings(Long eventId, String cursor, int size, UserDto user, String authToken) {
+        if (!Role.ADMIN.equals(user.getRole())) {
+            throw new UnauthorizedException("Only administrators can list an event's bookings");
+        }
+        int pageSize = pageSize(size);
+        List<BookingView> rows = bookingViewRepository.findEventPage(eventId, beforeId(cursor), PageRequest.of(0, pageSize + 1));
+
+        boolean hasMore = rows.size() > pageSize;
+        List<BookingView> page = hasMore ? rows.subList(0, pageSize) : rows;
+        // One call to user-service for the whole page instead of one per booking
+        Map<Long, UserDto> users = userBatcher.getUsers(page.stream().map(BookingView::getUserId).toList(), authToken);
+
+        List<EventBookingDto> bookings = page.stream()
+                .map(view -> {
+                    UserDto owner = users.get(view.getUserId());
+                    return EventBookingDto.builder()
+                            .bookingId(view.getBookingId())
+                            .userId(view.getUserId())
+                            .username(owner != null ? owner.getUsername() : null)
+                            .email(owner != null ? owner.getEmail() : null)
+                            .numberOfTickets(view.getNumberOfTickets())
+                            .totalPrice(view.getTotalPrice())
+                            .status(view.getStatus())
+                            .bookedAt(view.getBookedAt())
+                            .build();
+                })
+                .toList();
+
+        return EventBookingPageDto.builder()
+                .bookings(bookings)
+                .nextCursor(hasMore ? cursor(page.get(page.size() - 1)) : null)
+                .hasMore(hasMore)
+                .build();
+    }
+
+    private static int pageSize(int size) {
+        return Math.min(Math.max(size, 1), MAX_PAGE_SIZE);
+    }
+
+    private static Long beforeId(String cursor) {
+        if (cursor == null || cursor.isBlank()) {
+            return null;
+        }
+        try {
+            return Long.parseLong(new String(Base64.getUrlDecoder().decode(cursor), StandardCharsets.UTF_8));
+        } catch (RuntimeException e) {
+            throw new InvalidCursorException("Invalid page cursor");
+        }
+    }
+
+    private static String cursor(BookingView last) {
+        return Base64.getUrlEncoder().withoutPadding()
+                .encodeToString(last.getBookingId().toString().getBytes(StandardCharsets.UTF_8));
+    }
+}
@@ -0,0 +1,130 @@
+package com.femi.bookingservice.service;
+
+import com.femi.bookingservice.client.EventLookup;
+import com.femi.bookingservice.dto.EventDto;
+import com.femi.bookingservice.dto.EventStatus;
+import com.femi.bookingservice.dto.JoinWaitlistDto;
+import com.femi.bookingservice.dto.Role;
+import com.femi.bookingservice.dto.UserDto;
+import com.femi.bookingservice.exceptions.EventNotAvailableException;
+import com.femi.bookingservice.exceptions.InvalidBookingStateException;
+import com.femi.common.exceptions.UnauthorizedException;
+import com.femi.bookingservice.exceptions.WaitlistEntryNotFoundException;
+import com.femi.bookingservice.expiry.BookingExpiryScheduler;
+import com.femi.bookingservice.inventory.SeatInventory;
+import com.femi.bookingservice.model.Book;
+import com.femi.bookingservice.model.BookingStatus;
+import com.femi.bookingservice.model.WaitlistEntry;
+import com.femi.bookingservice.model.WaitlistStatus;
+import com.femi.bookingservice.repository.BookingRepository;
+import com.femi.bookingservice.repository.WaitlistRepository;
+import com.femi.bookingservice.waitlist.WaitQueue;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.math.BigDecimal;
+import java.time.LocalDateTime;
+import java.util.Collection;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+@Service
+@RequiredArgsConstructor
+@Slf4j
+public class WaitlistService {
+
+    private static final List<BookingStatus> ACTIVE_STATUSES = List.of(BookingStatus.PENDING, BookingStatus.CONFIRMED);
+
+    private final WaitlistRepository waitlistRepository;
+    private final BookingRepository bookingRepository;
+    private final BookingStatusService bookingStatusService;
+    private final BookingExpiryScheduler bookingExpiryScheduler;
+    private final EventLookup eventLookup;
+    private final SeatInventory seatInventory;
+    private final WaitQueue waitQueue;
+
+    public WaitlistEntry join(UserDto user, JoinWaitlistDto request) {
+        if (request.getNumberOfTickets() < 1 || request.getNumberOfTickets() > JoinWaitlistDto.MAX_TICKETS) {
+            throw new IllegalArgumentException("Number of tickets must be between 1 and " + JoinWaitlistDto.MAX_TICKETS);
+        }
+
+        EventDto event = eventLookup.getEvent(request.getEventId());
+        if (event == null || event.getStatus() == EventStatus.CANCELLED || event.getStatus() == EventStatus.COMPLETED) {
+            throw new EventNotAvailableException("Event is not available for booking");
+        }
+        // An entry larger than the event could never be offered and would hold up everyone behind it.
+        if (request.getNumberOfTickets() > event.getTotalSeats()) {
+            throw new InvalidBookingStateException("Event only has " + event.getTotalSeats() + " seats");
+        }
+
+        int available = seatInventory.getAvailableSeats(event.getId());
+        if (available < 0) {
+            available = event.getAvailableSeats();
+        }
+        if (waitQueue.size(event.getId()) == 0 && available >= request.getNumberOfTickets()) {
+            throw new InvalidBookingStateException("Seats are still available for this event, book them directly");
+        }
+
+        if (bookingRepository.existsByUserIdAndEventIdAndStatusIn(user.getId(), event.getId(), ACTIVE_STATUSES)) {
+            throw new InvalidBookingStateException("User already has an active booking for this event");
+        }
+        if (waitlistRepository.existsByUserIdAndEventIdAndStatus(user.getId(), event.getId(), WaitlistStatus.WAITING)) {
+            throw new InvalidBookingStateException("User is already on the waitlist for this event");
+        }
+
+        int priority = Role.ADMIN.equals(user.getRole()) && request.getPriority() != null ? request.getPriority() : 0;
+        WaitlistEntry saved = waitlistRepository.save(WaitlistEntry.builder()
+                .eventId(event.getId())
+                .userId(user.getId())
+                .numberOfTickets(request.getNumberOfTickets())
+                .priority(priority)
+                .status(WaitlistStatus.WAITING)
+                .build());
+        waitQueue.add(saved);
+
+        log.info("User {} joined the waitlist for event {} ({} ahead)", user.getId(), event.getId(), waitQueue.size(event.getId()) - 1);
+        return saved;
+    }
+
+    public void leave(Long entryId, UserDto user) {
+        WaitlistEntry entry = waitlistRepository.findById(entryId)
+                .orElseThrow(() -> new WaitlistEntryNotFoundException("Waitlist entry not found"));
+        if (!entry.getUserId().equals(user.getId()) && !Role.ADMIN.equals(user.getRole())) {
+            throw new UnauthorizedException("You can only leave your own waitlist entries");
+        }
+        if (waitlistRepository.cancel(entryId, LocalDateTime.now()) == 0) {
+            throw new InvalidBookingStateException("Only waiting entries can be removed");
+        }
+        waitQueue.remove(WaitQueue.Waiter.of(entry));
+    }
+
+    public List<WaitlistEntry> getEntriesForUser(Long userId) {
+        return waitlistRepository.findByUserIdOrderByIdDesc(userId);
+    }
+
+    @Transactional
+    public Map<Long, Book> offer(EventDto event, Collection<Long> entryIds) {
+        Map<Long, Book> offered = new HashMap<>();
+        for (WaitlistEntry entry : waitlistRepository.findWaitingByIdInForUpdate(entryIds)) {
+            if (bookingRepository.existsByUserIdAndEventIdAndStatusIn(entry.getUserId(), entry.getEventId(), ACTIVE_STATUSES)) {
+                entry.setStatus(WaitlistStatus.CANCELLED);
+                continue;
+            }
+            Book book = bookingStatusService.create(Book.builder()
+                    .eventId(entry.getEventId())
+                    .userId(entry.getUserId())
+                    .numberOfTickets(entry.getNumberOfTickets())
+                    .totalPrice(event.getTicketPrice().multiply(BigDecimal.valueOf(entry.getNumberOfTickets())))
+                    .status(BookingStatus.PENDING)
+                    .build(), event.getTotalSeats(), null);
+            entry.setStatus(WaitlistStatus.OFFERED);
+            entry.setBookingId(book.getId());
+            entry.setOfferExpiresAt(bookingExpiryScheduler.expiresAt(book));
+            offered.put(entry.getId(), book);
+        }
+        return offered;
+    }
+}
@@ -0,0 +1,175 @@
+package com.femi.bookingservice.tally;
+
+import com.femi.bookingservice.dto.TicketCountDto;
+import com.femi.bookingservice.model.BookingStatus;
+import com.femi.bookingservice.model.EventTicketTally;
+import com.femi.bookingservice.model.EventTicketTallyId;
+import com.femi.bookingservice.repository.BookingRepository;
+import com.femi.bookingservice.repository.TicketTallyRepository;
+import jakarta.annotation.PostConstruct;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.annotation.Isolation;
+import org.springframework.transaction.annotation.Propagation;
+import org.springframework.transaction.annotation.Transactional;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import java.util.Collection;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicLongArray;
+import java.util.concurrent.locks.ReentrantReadWriteLock;
+import java.util.function.Supplier;
+
+@Component
+@RequiredArgsConstructor
+@Slf4j
+public class TicketTally {
+
+    private static final int STATUS_COUNT = BookingStatus.values().length;
+
+    private final Map<Long, AtomicLongArray> tallies = new ConcurrentHashMap<>();
+    // Held shared from a transition's first write until its memory update, and exclusively
+    // while verify() takes its snapshot, so the snapshot and memory agree at that instant.
+    private final ReentrantReadWriteLock snapshotLock = new ReentrantReadWriteLock();
+    private final TicketTallyRepository ticketTallyRepository;
+    private final BookingRepository bookingRepository;
+
+    @PostConstruct
+    void load() {
+        for (EventTicketTally tally : ticketTallyRepository.findAll()) {
+            countersFor(tally.getId().getEventId()).set(tally.getId().getStatus().ordinal(), tally.getTickets());
+        }
+        log.info("Loaded ticket tallies for {} events", tallies.size());
+    }
+
+    @Transactional(propagation = Propagation.MANDATORY)
+    public void record(Long eventId, BookingStatus from, BookingStatus to, long tickets) {
+        if (from == to || tickets == 0) {
+            return;
+        }
+        ReentrantReadWriteLock.ReadLock lock = snapshotLock.readLock();
+        lock.lock();
+        TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+            @Override
+            public void afterCompletion(int status) {
+                lock.unlock();
+            }
+        });
+        if (from != null) {
+            ticketTallyRepository.add(eventId, from.name(), -tickets);
+        }
+        if (to != null) {
+            ticketTallyRepository.add(eventId, to.name(), tickets);
+        }
+        afterCommit(() -> {
+            apply(eventId, from, -tickets);
+            apply(eventId, to, tickets);
+        });
+    }
+
+    // Locks the event's tally rows for the rest of the transaction; the first status's row is
+    // created if needed, so callers for one event queue behind each other even before it exists.
+    @Transactional(propagation = Propagation.MANDATORY)
+    public long lockTickets(Long eventId, List<BookingStatus> statuses) {
+        ticketTallyRepository.add(eventId, statuses.get(0).name(), 0);
+        return ticketTallyRepository.findTicketsForUpdate(eventId, statuses.stream().map(Enum::name).toList()).stream()
+                .mapToLong(Long::longValue)
+                .sum();
+    }
+
+    // Runs while no local transition is between its database write and its after-commit work,
+    // so anything those after-commit hooks update agrees with the in-memory tallies.
+    public <T> T whileQuiescent(Supplier<T> action) {
+        snapshotLock.writeLock().lock();
+        try {
+            return action.get();
+        } finally {
+            snapshotLock.writeLock().unlock();
+        }
+    }
+
+    public long tickets(Long eventId, BookingStatus status) {
+        AtomicLongArray counters = tallies.get(eventId);
+        return counters != null ? counters.get(status.ordinal()) : 0;
+    }
+
+    public long tickets(Long eventId, Collection<BookingStatus> statuses) {
+        long total = 0;
+        for (BookingStatus status : statuses) {
+            total += tickets(eventId, status);
+        }
+        return total;
+    }
+
+    @Scheduled(fixedDelayString = "${booking.tally.verify-interval-ms:600000}")
+    @Transactional(isolation = Isolation.REPEATABLE_READ)
+    public void verify() {
+        Map<EventTicketTallyId, Long> expected = new HashMap<>();
+        Map<EventTicketTallyId, Long> stored = new HashMap<>();
+        Map<EventTicketTallyId, Long> memoryCorrections = new HashMap<>();
+        snapshotLock.writeLock().lock();
+        try {
+            for (TicketCountDto count : bookingRepository.countTicketsByEventAndStatus()) {
+                expected.put(new EventTicketTallyId(count.getEventId(), count.getStatus()), count.getTickets());
+            }
+            for (EventTicketTally tally : ticketTallyRepository.findAll()) {
+                stored.put(tally.getId(), tally.getTickets());
+            }
+            Set<EventTicketTallyId> memoryKeys = new HashSet<>(expected.keySet());
+            for (Long eventId : tallies.keySet()) {
+                for (BookingStatus status : BookingStatus.values()) {
+                    memoryKeys.add(new EventTicketTallyId(eventId, status));
+                }
+            }
+            for (EventTicketTallyId key : memoryKeys) {
+                long delta = expected.getOrDefault(key, 0L) - tickets(key.getEventId(), key.getStatus());
+                if (delta != 0) {
+                    memoryCorrections.put(key, delta);
+                }
+            }
+        } finally {
+            snapshotLock.writeLock().unlock();
+        }
+
+        Set<EventTicketTallyId> keys = new HashSet<>(expected.keySet());
+        keys.addAll(stored.keySet());
+        for (EventTicketTallyId key : keys) {
+            long delta = expected.getOrDefault(key, 0L) - stored.getOrDefault(key, 0L);
+            if (delta != 0) {
+                ticketTallyRepository.add(key.getEventId(), key.getStatus().name(), delta);
+                log.warn("Ticket tally for event {} {} was off by {}", key.getEventId(), key.getStatus(), delta);
+            }
+        }
+        if (!memoryCorrections.isEmpty()) {
+            log.info("Reloading {} in-memory ticket tallies that drifted from the database", memoryCorrections.size());
+            afterCommit(() -> memoryCorrections.forEach((key, delta) -> apply(key.getEventId(), key.getStatus(), delta)));
+        }
+    }
+
+    private void apply(Long eventId, BookingStatus status, long delta) {
+        if (status != null) {
+            countersFor(eventId).addAndGet(status.ordinal(), delta);
+        }
+    }
+
+    private AtomicLongArray countersFor(Long eventId) {
+        return tallies.computeIfAbsent(eventId, id -> new AtomicLongArray(STATUS_COUNT));
+    }
+
+    private static void afterCommit(Runnable action) {
+        TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+            @Override
+            public void afterCommit() {
+                action.run();
+            }
+        });
+    }
+}
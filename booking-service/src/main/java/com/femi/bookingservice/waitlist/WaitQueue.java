@@ -0,0 +1,75 @@
+package com.femi.bookingservice.waitlist;
+
+import com.femi.bookingservice.model.WaitlistEntry;
+import org.springframework.stereotype.Component;
+
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.List;
+import java.util.Map;
+import java.util.NavigableSet;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentSkipListSet;
+import java.util.stream.Collectors;
+
+@Component
+public class WaitQueue {
+
+    private static final Comparator<Waiter> ORDER = Comparator.comparingInt(Waiter::priority).reversed()
+            .thenComparing(Waiter::entryId);
+
+    private final Map<Long, NavigableSet<Waiter>> queues = new ConcurrentHashMap<>();
+
+    public void add(WaitlistEntry entry) {
+        queues.computeIfAbsent(entry.getEventId(), id -> new ConcurrentSkipListSet<>(ORDER)).add(Waiter.of(entry));
+    }
+
+    // Brings every queue in line with the table, including joins and offers made on other instances.
+    public void sync(List<WaitlistEntry> waiting) {
+        Map<Long, Set<Waiter>> byEvent = waiting.stream()
+                .collect(Collectors.groupingBy(WaitlistEntry::getEventId, Collectors.mapping(Waiter::of, Collectors.toSet())));
+        queues.forEach((eventId, queue) -> queue.retainAll(byEvent.getOrDefault(eventId, Set.of())));
+        waiting.forEach(this::add);
+    }
+
+    public void remove(Waiter waiter) {
+        NavigableSet<Waiter> queue = queues.get(waiter.eventId());
+        if (queue != null) {
+            queue.remove(waiter);
+        }
+    }
+
+    public List<Waiter> head(Long eventId, int max) {
+        NavigableSet<Waiter> queue = queues.get(eventId);
+        List<Waiter> head = new ArrayList<>();
+        if (queue != null) {
+            for (Waiter waiter : queue) {
+                if (head.size() >= max) {
+                    break;
+                }
+                head.add(waiter);
+            }
+        }
+        return head;
+    }
+
+    public int size(Long eventId) {
+        NavigableSet<Waiter> queue = queues.get(eventId);
+        return queue != null ? queue.size() : 0;
+    }
+
+    public Set<Long> events() {
+        return queues.keySet();
+    }
+
+    public void clear(Long eventId) {
+        queues.remove(eventId);
+    }
+
+    public record Waiter(Long entryId, Long eventId, Long userId, int tickets, int priority) {
+        public static Waiter of(WaitlistEntry entry) {
+            return new Waiter(entry.getId(), entry.getEventId(), entry.getUserId(), entry.getNumberOfTickets(), entry.getPriority());
+        }
+    }
+}
@@ -0,0 +1,126 @@
+package com.femi.bookingservice.waitlist;
+
+import com.femi.bookingservice.client.EventLookup;
+import com.femi.bookingservice.dto.EventDto;
+import com.femi.bookingservice.dto.EventStatus;
+import com.femi.bookingservice.exceptions.InsufficientSeatsException;
+import com.femi.bookingservice.expiry.BookingExpiryScheduler;
+import com.femi.bookingservice.inventory.SeatInventory;
+import com.femi.bookingservice.model.Book;
+import com.femi.bookingservice.model.WaitlistEntry;
+import com.femi.bookingservice.model.WaitlistStatus;
+import com.femi.bookingservice.repository.WaitlistRepository;
+import com.femi.bookingservice.service.WaitlistService;
+import jakarta.annotation.PostConstruct;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+
+@Component
+@RequiredArgsConstructor
+@Slf4j
+public class WaitlistPromoter {
+
+    private final WaitQueue waitQueue;
+    private final WaitlistRepository waitlistRepository;
+    private final WaitlistService waitlistService;
+    private final SeatInventory seatInventory;
+    private final EventLookup eventLookup;
+    private final BookingExpiryScheduler bookingExpiryScheduler;
+
+    @Value("${booking.waitlist.batch-size:50}")
+    private int batchSize;
+
+    @PostConstruct
+    void load() {
+        List<WaitlistEntry> waiting = waitlistRepository.findByStatus(WaitlistStatus.WAITING);
+        waiting.forEach(waitQueue::add);
+        log.info("Loaded {} waitlist entries", waiting.size());
+    }
+
+    @Scheduled(fixedDelayString = "${booking.waitlist.sync-interval-ms:5000}", initialDelayString = "${booking.waitlist.sync-interval-ms:5000}")
+    public void sync() {
+        try {
+            waitQueue.sync(waitlistRepository.findByStatus(WaitlistStatus.WAITING));
+        } catch (Exception e) {
+            log.warn("Waitlist sync failed: {}", e.getMessage());
+        }
+    }
+
+    @Scheduled(fixedDelayString = "${booking.waitlist.promote-interval-ms:1000}")
+    public void promote() {
+        for (Long eventId : waitQueue.events()) {
+            if (waitQueue.size(eventId) == 0 || seatInventory.getAvailableSeats(eventId) == 0) {
+                continue;
+            }
+            try {
+                promote(eventId);
+            } catch (Exception e) {
+                log.warn("Waitlist promotion failed for event {}: {}", eventId, e.getMessage());
+            }
+        }
+    }
+
+    private void promote(Long eventId) {
+        EventDto event = eventLookup.getEvent(eventId);
+        if (event == null) {
+            return;
+        }
+        if (event.getStatus() == EventStatus.CANCELLED || event.getStatus() == EventStatus.COMPLETED) {
+            int cancelled = waitlistRepository.cancelAllForEvent(eventId, LocalDateTime.now());
+            waitQueue.clear(eventId);
+            log.info("Event {} is {}, dropped {} waitlist entries", eventId, event.getStatus(), cancelled);
+            return;
+        }
+
+        // Strict ordering: stop at the first waiter that does not fit rather than skipping ahead.
+        // A waiter asking for more seats than the event has can never fit, so it is dropped.
+        List<WaitQueue.Waiter> held = new ArrayList<>();
+        for (WaitQueue.Waiter waiter : waitQueue.head(eventId, batchSize)) {
+            if (waiter.tickets() > event.getTotalSeats()) {
+                waitlistRepository.cancel(waiter.entryId(), LocalDateTime.now());
+                waitQueue.remove(waiter);
+                log.info("Dropped waitlist entry {}: {} tickets exceed the {} seats of event {}",
+                        waiter.entryId(), waiter.tickets(), event.getTotalSeats(), eventId);
+                continue;
+            }
+            if (!seatInventory.tryHold(event, waiter.tickets())) {
+                break;
+            }
+            held.add(waiter);
+        }
+        if (held.isEmpty()) {
+            return;
+        }
+
+        Map<Long, Book> offered;
+        try {
+            offered = waitlistService.offer(event, held.stream().map(WaitQueue.Waiter::entryId).toList());
+        } catch (RuntimeException e) {
+            held.forEach(waiter -> seatInventory.abort(eventId, waiter.tickets()));
+            if (e instanceof InsufficientSeatsException) {
+                seatInventory.reconcile(eventId);
+            }
+            throw e;
+        }
+
+        for (WaitQueue.Waiter waiter : held) {
+            waitQueue.remove(waiter);
+            Book book = offered.get(waiter.entryId());
+            if (book == null) {
+                seatInventory.abort(eventId, waiter.tickets());
+                continue;
+            }
+            seatInventory.settle(eventId, waiter.tickets());
+            bookingExpiryScheduler.schedule(book);
+        }
+        log.info("Offered seats on event {} to {} waitlisted users", eventId, offered.size());
+    }
+}
@@ -0,0 +1,115 @@
+package com.femi.bookingservice.admission;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.femi.bookingservice.config.JwtVerifier;
+import com.femi.bookingservice.dto.UserDto;
+import com.femi.common.admission.AdmissionControl;
+import io.github.resilience4j.bulkhead.BulkheadConfig;
+import io.github.resilience4j.bulkhead.BulkheadRegistry;
+import io.github.resilience4j.ratelimiter.RateLimiterConfig;
+import io.github.resilience4j.ratelimiter.RateLimiterRegistry;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.Test;
+import org.springframework.mock.web.MockFilterChain;
+import org.springframework.mock.web.MockHttpServletRequest;
+import org.springframework.mock.web.MockHttpServletResponse;
+
+import java.time.Duration;
+import java.util.Map;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class AdmissionFilterTests {
+
+    private final AdmissionControl admission = new AdmissionControl(
+            RateLimiterRegistry.of(Map.of(
+                    "client-ip", limit(100),
+                    "user", limit(2))),
+            BulkheadRegistry.of(BulkheadConfig.custom()
+                    .maxConcurrentCalls(1)
+                    .maxWaitDuration(Duration.ZERO)
+                    .build()),
+            1000);
+
+    private final JwtVerifier jwtVerifier = new JwtVerifier(null, 0, new SimpleMeterRegistry()) {
+        @Override
+        public UserDto verify(String authHeader) {
+            UserDto user = new UserDto();
+            if (authHeader.startsWith("Bearer user-")) {
+                user.setId(Long.valueOf(authHeader.substring("Bearer user-".length())));
+            }
+            return user;
+        }
+    };
+
+    private final AdmissionFilter filter = new AdmissionFilter(admission, jwtVerifier, new ObjectMapper().findAndRegisterModules());
+
+    @Test
+    void limitsEachUserAcrossClientAddresses() throws Exception {
+        assertEquals(200, send("GET", "/api/bookings/my", "10.0.0.1", "user-7").getStatus());
+        assertEquals(200, send("GET", "/api/bookings/my", "10.0.0.2", "user-7").getStatus());
+
+        MockHttpServletResponse limited = send("GET", "/api/bookings/my", "10.0.0.3", "user-7");
+
+        assertEquals(429, limited.getStatus());
+        assertNotNull(limited.getHeader("Retry-After"));
+        assertEquals(200, send("GET", "/api/bookings/my", "10.0.0.3", "user-8").getStatus());
+    }
+
+    @Test
+    void shedsWritesWhenTheBulkheadIsFull() throws Exception {
+        assertTrue(admission.bulkhead("booking-write").tryAcquirePermission());
+
+        MockHttpServletResponse shed = send("POST", "/api/bookings", "10.0.0.1", "user-7");
+
+        assertEquals(503, shed.getStatus());
+        assertEquals("1", shed.getHeader("Retry-After"));
+        assertEquals(200, send("GET", "/api/bookings/my", "10.0.0.1", "user-7").getStatus());
+        assertEquals(200, send("POST", "/actuator/health", "10.0.0.1", null).getStatus());
+    }
+
+    @Test
+    void keepsTheVerifiedUserForTheController() throws Exception {
+        MockHttpServletRequest request = new MockHttpServletRequest("GET", "/api/bookings/my");
+        request.setServletPath("/api/bookings/my");
+        request.addHeader("Authorization", "Bearer user-7");
+        filter.doFilter(request, new MockHttpServletResponse(), new MockFilterChain());
+
+        UserDto user = (UserDto) request.getAttribute(JwtVerifier.VERIFIED_USER);
+
+        assertEquals(7L, user.getId());
+        assertSame(user, jwtVerifier.verify("Bearer user-7", request));
+    }
+
+    @Test
+    void treatsATokenWithoutAUserIdAsAnonymous() throws Exception {
+        MockHttpServletRequest request = new MockHttpServletRequest("GET", "/api/bookings/my");
+        request.setServletPath("/api/bookings/my");
+        request.addHeader("Authorization", "Bearer service");
+        MockHttpServletResponse response = new MockHttpServletResponse();
+        filter.doFilter(request, response, new MockFilterChain());
+
+        assertEquals(200, response.getStatus());
+        assertNull(request.getAttribute(JwtVerifier.VERIFIED_USER));
+    }
+
+    private MockHttpServletResponse send(String method, String path, String remoteAddr, String token) throws Exception {
+        MockHttpServletRequest request = new MockHttpServletRequest(method, path);
+        request.setServletPath(path);
+        request.setRemoteAddr(remoteAddr);
+        if (token != null) {
+            request.addHeader("Authorization", "Bearer " + token);
+        }
+        MockHttpServletResponse response = new MockHttpServletResponse();
+        filter.doFilter(request, response, new MockFilterChain());
+        return response;
+    }
+
+    private static RateLimiterConfig limit(int perMinute) {
+        return RateLimiterConfig.custom()
+                .limitForPeriod(perMinute)
+                .limitRefreshPeriod(Duration.ofMinutes(1))
+                .timeoutDuration(Duration.ZERO)
+                .build();
+    }
+}
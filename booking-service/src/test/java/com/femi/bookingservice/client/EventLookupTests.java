@@ -0,0 +1,124 @@
+package com.femi.bookingservice.client;
+
+import com.femi.bookingservice.dto.EventDto;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.Test;
+import org.springframework.http.ResponseEntity;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class EventLookupTests {
+
+    private final AtomicInteger calls = new AtomicInteger();
+    private final SimpleMeterRegistry meterRegistry = new SimpleMeterRegistry();
+
+    @Test
+    void concurrentLookupsShareOneCall() throws Exception {
+        CountDownLatch release = new CountDownLatch(1);
+        EventLookup lookup = new EventLookup(eventId -> {
+            calls.incrementAndGet();
+            await(release);
+            return ResponseEntity.ok(event(eventId));
+        }, meterRegistry, 60_000);
+
+        List<Future<EventDto>> results = new ArrayList<>();
+        try (ExecutorService executor = Executors.newVirtualThreadPerTaskExecutor()) {
+            for (int i = 0; i < 50; i++) {
+                results.add(executor.submit(() -> lookup.getEvent(7L)));
+            }
+            Thread.sleep(200);
+            release.countDown();
+            for (Future<EventDto> result : results) {
+                assertEquals(7L, result.get(5, TimeUnit.SECONDS).getId());
+            }
+        }
+
+        assertEquals(1, calls.get());
+        assertEquals(0.98, lookup.collapseRatio(), 1e-9);
+        assertEquals(49, meterRegistry.counter("booking.event.lookups", "outcome", "shared").count()
+                + meterRegistry.counter("booking.event.lookups", "outcome", "cached").count());
+    }
+
+    @Test
+    void reusesResultWithinWindowOnly() throws Exception {
+        EventLookup lookup = new EventLookup(eventId -> {
+            calls.incrementAndGet();
+            return ResponseEntity.ok(event(eventId));
+        }, meterRegistry, 50);
+
+        lookup.getEvent(1L);
+        lookup.getEvent(1L);
+        lookup.getEvent(2L);
+        assertEquals(2, calls.get());
+
+        Thread.sleep(60);
+        lookup.getEvent(1L);
+        assertEquals(3, calls.get());
+        assertEquals(1, meterRegistry.counter("booking.event.lookups", "outcome", "cached").count());
+    }
+
+    @Test
+    void failuresAreNotCached() {
+        EventLookup lookup = new EventLookup(eventId -> {
+            if (calls.incrementAndGet() == 1) {
+                throw new IllegalStateException("event-service down");
+            }
+            return ResponseEntity.ok(event(eventId));
+        }, meterRegistry, 60_000);
+
+        assertThrows(IllegalStateException.class, () -> lookup.getEvent(1L));
+        assertEquals(1L, lookup.getEvent(1L).getId());
+        assertEquals(2, calls.get());
+    }
+
+    @Test
+    void errorsReachWaitingCallersAndAreNotCached() throws Exception {
+        CountDownLatch release = new CountDownLatch(1);
+        EventLookup lookup = new EventLookup(eventId -> {
+            if (calls.incrementAndGet() == 1) {
+                await(release);
+                throw new StackOverflowError();
+            }
+            return ResponseEntity.ok(event(eventId));
+        }, meterRegistry, 60_000);
+
+        try (ExecutorService executor = Executors.newVirtualThreadPerTaskExecutor()) {
+            Future<EventDto> leader = executor.submit(() -> lookup.getEvent(1L));
+            Thread.sleep(100);
+            Future<EventDto> waiter = executor.submit(() -> lookup.getEvent(1L));
+            Thread.sleep(100);
+            release.countDown();
+
+            ExecutionException failure = assertThrows(ExecutionException.class, () -> waiter.get(5, TimeUnit.SECONDS));
+            assertInstanceOf(StackOverflowError.class, failure.getCause());
+            assertThrows(ExecutionException.class, () -> leader.get(5, TimeUnit.SECONDS));
+        }
+
+        assertEquals(1L, lookup.getEvent(1L).getId());
+        assertEquals(2, calls.get());
+    }
+
+    private static EventDto event(Long id) {
+        EventDto event = new EventDto();
+        event.setId(id);
+        return event;
+    }
+
+    private static void await(CountDownLatch latch) {
+        try {
+            latch.await();
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+    }
+}
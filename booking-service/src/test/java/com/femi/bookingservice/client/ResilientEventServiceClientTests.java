@@ -0,0 +1,108 @@
+package com.femi.bookingservice.client;
+
+import com.femi.bookingservice.dto.EventDto;
+import com.femi.common.client.DownstreamGuard;
+import com.femi.common.exceptions.ServiceUnavailableException;
+import feign.FeignException;
+import feign.Request;
+import io.github.resilience4j.bulkhead.BulkheadRegistry;
+import io.github.resilience4j.circuitbreaker.CircuitBreaker;
+import io.github.resilience4j.circuitbreaker.CircuitBreakerConfig;
+import io.github.resilience4j.circuitbreaker.CircuitBreakerRegistry;
+import io.github.resilience4j.timelimiter.TimeLimiterConfig;
+import io.github.resilience4j.timelimiter.TimeLimiterRegistry;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.http.ResponseEntity;
+
+import java.nio.charset.StandardCharsets;
+import java.time.Duration;
+import java.util.Map;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.function.Function;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class ResilientEventServiceClientTests {
+
+    private final CircuitBreakerRegistry circuitBreakers = CircuitBreakerRegistry.of(CircuitBreakerConfig.custom()
+            .slidingWindowSize(4)
+            .minimumNumberOfCalls(2)
+            .failureRateThreshold(50)
+            .waitDurationInOpenState(Duration.ofMinutes(1))
+            .ignoreExceptions(FeignException.FeignClientException.class)
+            .build());
+    private final SimpleMeterRegistry meterRegistry = new SimpleMeterRegistry();
+    private final DownstreamGuard guard = new DownstreamGuard(circuitBreakers, BulkheadRegistry.ofDefaults(),
+            TimeLimiterRegistry.of(TimeLimiterConfig.custom().timeoutDuration(Duration.ofMillis(100)).build()),
+            meterRegistry);
+    private final AtomicInteger calls = new AtomicInteger();
+    private Function<Long, ResponseEntity<EventDto>> behaviour;
+    private final ResilientEventServiceClient client = new ResilientEventServiceClient(eventId -> {
+        calls.incrementAndGet();
+        return behaviour.apply(eventId);
+    }, guard, 100);
+
+    @AfterEach
+    void tearDown() {
+        guard.stop();
+    }
+
+    @Test
+    void servesLastKnownEventWhileEventServiceFails() {
+        behaviour = id -> ResponseEntity.ok(EventDto.builder().id(id).name("Concert").build());
+        client.getEventById(1L);
+
+        behaviour = id -> {
+            throw new IllegalStateException("connection refused");
+        };
+
+        assertEquals("Concert", client.getEventById(1L).getBody().getName());
+        assertThrows(ServiceUnavailableException.class, () -> client.getEventById(2L));
+    }
+
+    @Test
+    void slowCallsTimeOutAndOpenTheCircuit() {
+        behaviour = id -> {
+            try {
+                Thread.sleep(5_000);
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+            }
+            return ResponseEntity.ok(EventDto.builder().id(id).build());
+        };
+
+        long start = System.nanoTime();
+        assertThrows(ServiceUnavailableException.class, () -> client.getEventById(1L));
+        assertThrows(ServiceUnavailableException.class, () -> client.getEventById(1L));
+        assertTrue(Duration.ofNanos(System.nanoTime() - start).toMillis() < 2_000);
+        assertEquals(CircuitBreaker.State.OPEN, circuitBreakers.circuitBreaker(ResilientEventServiceClient.SERVICE).getState());
+
+        assertThrows(ServiceUnavailableException.class, () -> client.getEventById(1L));
+        assertEquals(2, calls.get());
+        assertEquals(2, callCount("timeout"));
+        assertEquals(1, callCount("circuit_open"));
+    }
+
+    @Test
+    void clientErrorsPassThroughWithoutTrippingTheCircuit() {
+        Request request = Request.create(Request.HttpMethod.GET, "/api/events/9", Map.of(), null, StandardCharsets.UTF_8, null);
+        behaviour = id -> {
+            throw new FeignException.NotFound("Event not found", request, null, null);
+        };
+
+        for (int i = 0; i < 4; i++) {
+            assertThrows(FeignException.NotFound.class, () -> client.getEventById(9L));
+        }
+        assertEquals(CircuitBreaker.State.CLOSED, circuitBreakers.circuitBreaker(ResilientEventServiceClient.SERVICE).getState());
+        assertEquals(4, callCount("client_error"));
+    }
+
+    private long callCount(String outcome) {
+        return meterRegistry.get("feign.calls")
+                .tags("client", ResilientEventServiceClient.SERVICE, "method", "getEventById", "outcome", outcome)
+                .timer()
+                .count();
+    }
+}
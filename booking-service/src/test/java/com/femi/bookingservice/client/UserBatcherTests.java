@@ -0,0 +1,122 @@
+package com.femi.bookingservice.client;
+
+import com.femi.bookingservice.dto.ApiResponseData;
+import com.femi.bookingservice.dto.UserBatchRequestDto;
+import com.femi.bookingservice.dto.UserDto;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.http.ResponseEntity;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+import java.util.function.Function;
+import java.util.stream.LongStream;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class UserBatcherTests {
+
+    private final ConcurrentLinkedQueue<Set<Long>> calls = new ConcurrentLinkedQueue<>();
+    private UserBatcher batcher;
+
+    @AfterEach
+    void tearDown() {
+        batcher.stop();
+    }
+
+    @Test
+    void concurrentLookupsShareOneCall() throws Exception {
+        batcher = new UserBatcher(client(ids -> ids.stream().map(UserBatcherTests::user).toList()), 50, 100);
+
+        List<Future<UserDto>> results = new ArrayList<>();
+        try (ExecutorService executor = Executors.newVirtualThreadPerTaskExecutor()) {
+            for (long id = 1; id <= 20; id++) {
+                long userId = id % 10 + 1;
+                results.add(executor.submit(() -> batcher.getUser(userId, "Bearer admin")));
+            }
+            for (Future<UserDto> result : results) {
+                assertNotNull(result.get(5, TimeUnit.SECONDS));
+            }
+        }
+
+        assertEquals(1, calls.size());
+        assertEquals(10, calls.peek().size());
+    }
+
+    @Test
+    void fullBatchIsSentWithoutWaitingForTheWindow() throws Exception {
+        batcher = new UserBatcher(client(ids -> ids.stream().map(UserBatcherTests::user).toList()), 60_000, 5);
+
+        try (ExecutorService executor = Executors.newVirtualThreadPerTaskExecutor()) {
+            List<Future<UserDto>> results = new ArrayList<>();
+            for (long id = 1; id <= 5; id++) {
+                long userId = id;
+                results.add(executor.submit(() -> batcher.getUser(userId, "Bearer admin")));
+            }
+            for (Future<UserDto> result : results) {
+                assertNotNull(result.get(5, TimeUnit.SECONDS));
+            }
+        }
+
+        assertEquals(List.of(Set.of(1L, 2L, 3L, 4L, 5L)), List.copyOf(calls));
+    }
+
+    @Test
+    void unknownUsersResolveToNullAndFailuresReachEveryWaiter() {
+        batcher = new UserBatcher(client(ids -> ids.stream().filter(id -> id != 2L).map(UserBatcherTests::user).toList()), 1, 100);
+        assertNull(batcher.getUser(2L, "Bearer admin"));
+        assertEquals(1L, batcher.getUser(1L, "Bearer admin").getId());
+
+        batcher.stop();
+        batcher = new UserBatcher(client(ids -> {
+            throw new IllegalStateException("user-service down");
+        }), 1, 100);
+        assertThrows(IllegalStateException.class, () -> batcher.getUser(1L, "Bearer admin"));
+    }
+
+    @Test
+    void getUsersSplitsIntoChunks() {
+        batcher = new UserBatcher(client(ids -> ids.stream().map(UserBatcherTests::user).toList()), 1, 4);
+
+        Map<Long, UserDto> users = batcher.getUsers(LongStream.rangeClosed(1, 10).boxed().toList(), "Bearer admin");
+
+        assertEquals(10, users.size());
+        assertEquals(3, calls.size());
+    }
+
+    private UserServiceClient client(Function<Set<Long>, List<UserDto>> lookup) {
+        return new UserServiceClient() {
+            @Override
+            public ResponseEntity<ApiResponseData<UserDto>> getUserById(Long id, String authToken) {
+                throw new UnsupportedOperationException();
+            }
+
+            @Override
+            public ResponseEntity<ApiResponseData<List<UserDto>>> getUsersByIds(UserBatchRequestDto request, String authToken) {
+                calls.add(request.getIds());
+                return ResponseEntity.ok(ApiResponseData.<List<UserDto>>builder()
+                        .success(true)
+                        .data(lookup.apply(request.getIds()))
+                        .build());
+            }
+
+            @Override
+            public String getJwks() {
+                throw new UnsupportedOperationException();
+            }
+        };
+    }
+
+    private static UserDto user(Long id) {
+        UserDto user = new UserDto();
+        user.setId(id);
+        return user;
+    }
+}
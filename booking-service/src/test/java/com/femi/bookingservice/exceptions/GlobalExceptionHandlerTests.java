@@ -0,0 +1,58 @@
+package com.femi.bookingservice.exceptions;
+
+import com.femi.bookingservice.config.JwtVerifier;
+import com.femi.bookingservice.controller.BookingController;
+import com.femi.bookingservice.dto.UserDto;
+import com.femi.bookingservice.service.BookService;
+import com.femi.bookingservice.service.BookingViewService;
+import com.femi.common.exceptions.UnauthorizedException;
+import org.junit.jupiter.api.Test;
+import org.springframework.http.MediaType;
+import org.springframework.test.web.servlet.MockMvc;
+import org.springframework.test.web.servlet.setup.MockMvcBuilders;
+
+import static org.mockito.ArgumentMatchers.*;
+import static org.mockito.Mockito.*;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.get;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.post;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.jsonPath;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.status;
+
+class GlobalExceptionHandlerTests {
+
+    private final BookService bookService = mock(BookService.class);
+    private final JwtVerifier jwtVerifier = mock(JwtVerifier.class);
+    private final MockMvc mvc = MockMvcBuilders
+            .standaloneSetup(new BookingController(bookService, mock(BookingViewService.class), jwtVerifier))
+            .setControllerAdvice(new GlobalExceptionHandler())
+            .build();
+
+    @Test
+    void mapsBookingFailuresToClientErrors() throws Exception {
+        UserDto user = new UserDto();
+        user.setId(7L);
+        when(jwtVerifier.verify(eq("Bearer ok"), any())).thenReturn(user);
+        when(jwtVerifier.verify(eq("Bearer bad"), any())).thenThrow(new UnauthorizedException("Invalid or expired token"));
+        when(bookService.createBooking(eq(7L), eq(1L), anyInt(), isNull()))
+                .thenThrow(new InsufficientSeatsException("Not enough seats available"));
+        when(bookService.getBookingForUser(eq(9L), any())).thenThrow(new BookingNotFoundException("Booking not found"));
+
+        mvc.perform(post("/api/bookings").header("Authorization", "Bearer ok")
+                        .contentType(MediaType.APPLICATION_JSON).content("{\"eventId\":1,\"numberOfTickets\":2}"))
+                .andExpect(status().isConflict())
+                .andExpect(jsonPath("$.message").value("Not enough seats available"));
+        mvc.perform(get("/api/bookings/9").header("Authorization", "Bearer ok"))
+                .andExpect(status().isNotFound());
+        mvc.perform(get("/api/bookings/9").header("Authorization", "Bearer bad"))
+                .andExpect(status().isUnauthorized());
+    }
+
+    @Test
+    void rejectsInvalidBookingRequests() throws Exception {
+        mvc.perform(post("/api/bookings").header("Authorization", "Bearer ok")
+                        .contentType(MediaType.APPLICATION_JSON).content("{\"numberOfTickets\":0}"))
+                .andExpect(status().isBadRequest())
+                .andExpect(jsonPath("$.errors.length()").value(2));
+        verifyNoInteractions(bookService);
+    }
+}
@@ -0,0 +1,61 @@
+package com.femi.bookingservice.expiry;
+
+import org.junit.jupiter.api.Test;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Random;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class TimingWheelTests {
+
+    @Test
+    void firesEachTimeoutNoEarlierThanItsDeadlineAndWithinOneTick() {
+        long start = 1_000_000L;
+        TimingWheel<Long> wheel = new TimingWheel<>(10, 8, start);
+        Random random = new Random(42);
+        List<Timeout<Long>> timeouts = new ArrayList<>();
+        for (long i = 0; i < 2_000; i++) {
+            Timeout<Long> timeout = new Timeout<>(i, start + 1 + random.nextInt(50_000));
+            timeouts.add(timeout);
+            assertTrue(wheel.add(timeout));
+        }
+
+        long[] firedAt = new long[timeouts.size()];
+        for (long now = start; now <= start + 60_000; now += 7) {
+            long current = now;
+            wheel.advanceTo(now, t -> firedAt[t.getPayload().intValue()] = current);
+        }
+
+        assertEquals(0, wheel.size());
+        for (Timeout<Long> timeout : timeouts) {
+            long fired = firedAt[timeout.getPayload().intValue()];
+            assertTrue(fired >= timeout.getDeadline(), "fired early: " + timeout.getPayload());
+            assertTrue(fired < timeout.getDeadline() + 10 + 7, "fired late: " + timeout.getPayload());
+        }
+    }
+
+    @Test
+    void cancelledTimeoutsAreDropped() {
+        TimingWheel<Long> wheel = new TimingWheel<>(10, 8, 0);
+        Timeout<Long> kept = new Timeout<>(1L, 500);
+        Timeout<Long> cancelled = new Timeout<>(2L, 500);
+        wheel.add(kept);
+        wheel.add(cancelled);
+        cancelled.cancel();
+
+        List<Long> fired = new ArrayList<>();
+        wheel.advanceTo(1_000, t -> fired.add(t.getPayload()));
+
+        assertEquals(List.of(1L), fired);
+    }
+
+    @Test
+    void rejectsDeadlinesThatHaveAlreadyPassed() {
+        TimingWheel<Long> wheel = new TimingWheel<>(10, 8, 100);
+
+        assertFalse(wheel.add(new Timeout<>(1L, 50)));
+        assertEquals(0, wheel.size());
+    }
+}
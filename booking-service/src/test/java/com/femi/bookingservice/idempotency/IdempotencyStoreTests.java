@@ -0,0 +1,133 @@
+package com.femi.bookingservice.idempotency;
+
+import com.femi.bookingservice.exceptions.IdempotencyKeyConflictException;
+import com.femi.bookingservice.model.IdempotencyKey;
+import com.femi.bookingservice.repository.IdempotencyKeyRepository;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
+import org.springframework.context.annotation.Import;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.annotation.Propagation;
+import org.springframework.transaction.annotation.Transactional;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.time.LocalDateTime;
+import java.util.UUID;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+@DataJpaTest(properties = {
+        "spring.jpa.properties.hibernate.dialect=org.hibernate.dialect.H2Dialect",
+        "spring.jpa.hibernate.ddl-auto=create-drop",
+        "eureka.client.enabled=false"
+})
+@Import(IdempotencyStore.class)
+@Transactional(propagation = Propagation.NOT_SUPPORTED)
+class IdempotencyStoreTests {
+
+    private static final Long USER_ID = 5L;
+
+    @Autowired
+    private IdempotencyStore idempotencyStore;
+
+    @Autowired
+    private IdempotencyKeyRepository idempotencyKeyRepository;
+
+    @Autowired
+    private PlatformTransactionManager transactionManager;
+
+    private TransactionTemplate tx;
+    private String key;
+
+    @BeforeEach
+    void setUp() {
+        tx = new TransactionTemplate(transactionManager);
+        idempotencyKeyRepository.deleteAll();
+        // The in-memory layer outlives each test, so never reuse a key.
+        key = UUID.randomUUID().toString();
+    }
+
+    @Test
+    void completedKeyIsReplayed() {
+        IdempotencyKey claim = idempotencyStore.begin(USER_ID, key, "1:2");
+        assertNull(claim.getBookingId());
+
+        tx.executeWithoutResult(status -> idempotencyStore.complete(claim, 42L));
+
+        assertEquals(42L, idempotencyStore.begin(USER_ID, key, "1:2").getBookingId());
+        idempotencyKeyRepository.deleteAll();
+        // Still answered from the in-memory layer.
+        assertEquals(42L, idempotencyStore.begin(USER_ID, key, "1:2").getBookingId());
+    }
+
+    @Test
+    void concurrentRequestWithSameKeyIsRejected() {
+        idempotencyStore.begin(USER_ID, key, "1:2");
+
+        assertThrows(IdempotencyKeyConflictException.class, () -> idempotencyStore.begin(USER_ID, key, "1:2"));
+    }
+
+    @Test
+    void keyCannotBeReusedForDifferentRequest() {
+        IdempotencyKey claim = idempotencyStore.begin(USER_ID, key, "1:2");
+        tx.executeWithoutResult(status -> idempotencyStore.complete(claim, 42L));
+
+        assertThrows(IdempotencyKeyConflictException.class, () -> idempotencyStore.begin(USER_ID, key, "1:3"));
+    }
+
+    @Test
+    void keysAreScopedPerUser() {
+        idempotencyStore.begin(USER_ID, key, "1:2");
+
+        assertNull(idempotencyStore.begin(USER_ID + 1, key, "1:2").getBookingId());
+    }
+
+    @Test
+    void abandonedOrRolledBackClaimsCanBeRetried() {
+        IdempotencyKey claim = idempotencyStore.begin(USER_ID, key, "1:2");
+        tx.executeWithoutResult(status -> {
+            idempotencyStore.complete(claim, 42L);
+            status.setRollbackOnly();
+        });
+        idempotencyStore.abandon(claim);
+
+        IdempotencyKey retry = idempotencyStore.begin(USER_ID, key, "1:2");
+        assertNull(retry.getBookingId());
+        assertNotEquals(claim.getId(), retry.getId());
+    }
+
+    @Test
+    void staleClaimsAreTakenOver() {
+        LocalDateTime createdAt = LocalDateTime.now().minusMinutes(5);
+        IdempotencyKey claim = idempotencyKeyRepository.save(IdempotencyKey.builder()
+                .userId(USER_ID)
+                .idempotencyKey(key)
+                .requestFingerprint("1:2")
+                .createdAt(createdAt)
+                .expiresAt(createdAt.plusHours(24))
+                .build());
+
+        IdempotencyKey retry = idempotencyStore.begin(USER_ID, key, "1:2");
+
+        assertNotEquals(claim.getId(), retry.getId());
+        assertThrows(IdempotencyKeyConflictException.class,
+                () -> tx.executeWithoutResult(status -> idempotencyStore.complete(claim, 42L)));
+    }
+
+    @Test
+    void expiredKeysArePurged() {
+        IdempotencyKey claim = idempotencyStore.begin(USER_ID, key, "1:2");
+        tx.executeWithoutResult(status -> idempotencyStore.complete(claim, 42L));
+        IdempotencyKey stored = idempotencyKeyRepository.findById(claim.getId()).orElseThrow();
+        stored.setExpiresAt(LocalDateTime.now().minusSeconds(1));
+        idempotencyKeyRepository.save(stored);
+        claim.setExpiresAt(stored.getExpiresAt());
+
+        idempotencyStore.purgeExpired();
+
+        assertEquals(0, idempotencyKeyRepository.count());
+        assertNull(idempotencyStore.begin(USER_ID, key, "1:2").getBookingId());
+    }
+}
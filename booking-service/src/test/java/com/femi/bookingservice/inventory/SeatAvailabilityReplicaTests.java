@@ -0,0 +1,115 @@
+package com.femi.bookingservice.inventory;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.femi.bookingservice.client.EventLookup;
+import com.femi.bookingservice.dto.EventDto;
+import com.femi.bookingservice.dto.EventStatus;
+import com.femi.bookingservice.dto.SeatChangeDto;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.client.RestClient;
+
+import java.io.BufferedReader;
+import java.io.StringReader;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class SeatAvailabilityReplicaTests {
+
+    private static final LocalDateTime WHEN = LocalDateTime.of(2030, 1, 1, 20, 0);
+
+    private final AtomicInteger lookups = new AtomicInteger();
+    private final List<Object> published = new ArrayList<>();
+    private final ObjectMapper objectMapper = new ObjectMapper().findAndRegisterModules();
+    private EventLookup eventLookup;
+    private SeatAvailabilityReplica replica;
+
+    @BeforeEach
+    void setUp() {
+        eventLookup = new EventLookup(eventId -> {
+            lookups.incrementAndGet();
+            EventDto event = new EventDto();
+            event.setId(eventId);
+            return ResponseEntity.ok(event);
+        }, new SimpleMeterRegistry(), 60_000);
+        replica = new SeatAvailabilityReplica(RestClient.builder(), objectMapper, eventLookup, published::add,
+                false, 45_000, 1_000, 30_000);
+    }
+
+    @Test
+    void appliesSnapshotAndChangesInOrder() throws Exception {
+        read("""
+                id:100
+                event:reset
+                data:100
+
+                id:100
+                event:seats
+                data:{"version":100,"eventId":1,"totalSeats":50,"availableSeats":50,"status":"ACTIVE"}
+
+                id:100
+                event:seats
+                data:{"version":100,"eventId":2,"totalSeats":10,"availableSeats":0,"status":"SOLD_OUT"}
+
+                :heartbeat
+
+                id:101
+                event:seats
+                data: {"version":101,"eventId":1,"totalSeats":50,"availableSeats":46,"status":"ACTIVE"}
+
+                """);
+
+        assertEquals(101, replica.version());
+        assertEquals(46, replica.get(1L).getAvailableSeats());
+        assertEquals(EventStatus.SOLD_OUT, replica.get(2L).getStatus());
+        assertNull(replica.get(3L));
+    }
+
+    @Test
+    void resetDropsEventsMissingFromTheNewSnapshot() throws Exception {
+        read(change(5, 1L, 10, EventStatus.ACTIVE) + change(6, 2L, 10, EventStatus.ACTIVE)
+                + "event:reset\ndata:200\n\n" + change(200, 2L, 8, EventStatus.ACTIVE));
+
+        assertEquals(200, replica.version());
+        assertNull(replica.get(1L));
+        assertEquals(8, replica.get(2L).getAvailableSeats());
+    }
+
+    @Test
+    void statusChangesInvalidateTheCachedEvent() throws Exception {
+        eventLookup.getEvent(1L);
+        read(change(1, 1L, 10, EventStatus.ACTIVE) + change(2, 1L, 9, EventStatus.ACTIVE));
+        eventLookup.getEvent(1L);
+        assertEquals(1, lookups.get());
+
+        read(change(3, 1L, 9, EventStatus.CANCELLED));
+        eventLookup.getEvent(1L);
+        assertEquals(2, lookups.get());
+    }
+
+    @Test
+    void publishesDetailChangesButNotSeatCounts() throws Exception {
+        read(change(1, 1L, 10, EventStatus.ACTIVE) + change(2, 1L, 9, EventStatus.ACTIVE));
+        assertEquals(1, published.size());
+
+        SeatChangeDto renamed = new SeatChangeDto(3, 1L, 10, 9, EventStatus.ACTIVE, "Renamed", "Hall", WHEN);
+        read("event:seats\ndata:" + objectMapper.writeValueAsString(renamed) + "\n\n");
+        assertEquals(List.of(1L, 1L), published.stream().map(event -> ((SeatChangeDto) event).getEventId()).toList());
+        assertEquals("Renamed", ((SeatChangeDto) published.get(1)).getName());
+    }
+
+    private void read(String stream) throws Exception {
+        replica.read(new BufferedReader(new StringReader(stream)));
+    }
+
+    private String change(long version, Long eventId, int available, EventStatus status) throws Exception {
+        SeatChangeDto change = new SeatChangeDto(version, eventId, 10, available, status, "Event " + eventId, "Hall", WHEN);
+        return "id:" + version + "\nevent:seats\ndata:" + objectMapper.writeValueAsString(change) + "\n\n";
+    }
+}
@@ -0,0 +1,70 @@
+package com.femi.bookingservice.inventory;
+
+import org.junit.jupiter.api.Test;
+
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class SeatCounterTests {
+
+    @Test
+    void neverGrantsMoreSeatsThanAvailable() throws InterruptedException {
+        SeatCounter counter = new SeatCounter(100);
+        AtomicInteger granted = new AtomicInteger();
+        CountDownLatch start = new CountDownLatch(1);
+        ExecutorService pool = Executors.newFixedThreadPool(16);
+
+        for (int i = 0; i < 1000; i++) {
+            pool.execute(() -> {
+                try {
+                    start.await();
+                } catch (InterruptedException e) {
+                    Thread.currentThread().interrupt();
+                }
+                if (counter.tryAcquire(1)) {
+                    granted.incrementAndGet();
+                    counter.settle(1);
+                }
+            });
+        }
+        start.countDown();
+        pool.shutdown();
+        assertTrue(pool.awaitTermination(10, TimeUnit.SECONDS));
+
+        assertEquals(100, granted.get());
+        assertEquals(0, counter.available());
+        assertEquals(0, counter.unsettled());
+    }
+
+    @Test
+    void abortReturnsSeatsAndClearsUnsettled() {
+        SeatCounter counter = new SeatCounter(5);
+
+        assertTrue(counter.tryAcquire(3));
+        assertEquals(3, counter.unsettled());
+        counter.abort(3);
+
+        assertEquals(5, counter.available());
+        assertEquals(0, counter.unsettled());
+        assertFalse(counter.tryAcquire(6));
+        assertEquals(0, counter.unsettled());
+    }
+
+    @Test
+    void resetIsRejectedWhenCounterMovedSinceObserved() {
+        SeatCounter counter = new SeatCounter(10);
+        int observed = counter.available();
+
+        assertTrue(counter.tryAcquire(2));
+
+        assertFalse(counter.reset(observed, 7));
+        assertEquals(8, counter.available());
+        assertTrue(counter.reset(8, 7));
+        assertEquals(7, counter.available());
+    }
+}
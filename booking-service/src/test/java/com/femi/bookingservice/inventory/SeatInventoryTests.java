@@ -0,0 +1,73 @@
+package com.femi.bookingservice.inventory;
+
+import com.femi.bookingservice.client.EventLookup;
+import com.femi.bookingservice.dto.EventDto;
+import com.femi.bookingservice.model.BookingStatus;
+import com.femi.bookingservice.repository.BookingRepository;
+import com.femi.bookingservice.repository.TicketTallyRepository;
+import com.femi.bookingservice.tally.TicketTally;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.when;
+
+class SeatInventoryTests {
+
+    private static final Long EVENT_ID = 1L;
+
+    private final TicketTally ticketTally = new TicketTally(mock(TicketTallyRepository.class), mock(BookingRepository.class));
+    private final EventLookup eventLookup = mock(EventLookup.class);
+    private final SeatInventory inventory = new SeatInventory(ticketTally, eventLookup, mock(SeatAvailabilityReplica.class));
+    private final EventDto event = EventDto.builder().id(EVENT_ID).totalSeats(10).build();
+
+    @AfterEach
+    void tearDown() {
+        if (TransactionSynchronizationManager.isSynchronizationActive()) {
+            TransactionSynchronizationManager.clearSynchronization();
+        }
+    }
+
+    @Test
+    void reconcileBetweenTransitionAndReleaseDoesNotCountTheSeatsTwice() throws InterruptedException {
+        when(eventLookup.getEvent(EVENT_ID)).thenReturn(event);
+        assertTrue(inventory.tryHold(event, 4));
+        commit(begin(() -> ticketTally.record(EVENT_ID, null, BookingStatus.PENDING, 4)));
+        inventory.settle(EVENT_ID, 4);
+        assertEquals(6, inventory.getAvailableSeats(EVENT_ID));
+
+        List<TransactionSynchronization> cancel = begin(() -> {
+            ticketTally.record(EVENT_ID, BookingStatus.PENDING, BookingStatus.CANCELLED, 4);
+            inventory.releaseOnCommit(EVENT_ID, 4);
+        });
+        // The tallies are updated but the counter has not been credited yet
+        cancel.subList(0, cancel.size() - 1).forEach(TransactionSynchronization::afterCommit);
+        Thread reconcile = Thread.ofVirtual().start(inventory::reconcile);
+        reconcile.join(200);
+        assertTrue(reconcile.isAlive());
+
+        cancel.get(cancel.size() - 1).afterCommit();
+        cancel.forEach(sync -> sync.afterCompletion(TransactionSynchronization.STATUS_COMMITTED));
+        reconcile.join();
+
+        assertEquals(10, inventory.getAvailableSeats(EVENT_ID));
+    }
+
+    private static List<TransactionSynchronization> begin(Runnable work) {
+        TransactionSynchronizationManager.initSynchronization();
+        work.run();
+        List<TransactionSynchronization> synchronizations = TransactionSynchronizationManager.getSynchronizations();
+        TransactionSynchronizationManager.clearSynchronization();
+        return synchronizations;
+    }
+
+    private static void commit(List<TransactionSynchronization> synchronizations) {
+        synchronizations.forEach(TransactionSynchronization::afterCommit);
+        synchronizations.forEach(sync -> sync.afterCompletion(TransactionSynchronization.STATUS_COMMITTED));
+    }
+}
@@ -0,0 +1,143 @@
+package com.femi.bookingservice.outbox;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.femi.bookingservice.model.OutboxMessage;
+import com.femi.bookingservice.model.OutboxStatus;
+import com.femi.bookingservice.repository.OutboxMessageRepository;
+import com.femi.bookingservice.repository.OutboxRelayLeaseRepository;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.annotation.Propagation;
+import org.springframework.transaction.annotation.Transactional;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.time.LocalDateTime;
+import java.time.temporal.ChronoUnit;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+@DataJpaTest(properties = {
+        "spring.jpa.properties.hibernate.dialect=org.hibernate.dialect.H2Dialect",
+        "spring.jpa.hibernate.ddl-auto=create-drop",
+        "eureka.client.enabled=false"
+})
+@Transactional(propagation = Propagation.NOT_SUPPORTED)
+class OutboxRelayTests {
+
+    @Autowired
+    private OutboxMessageRepository outboxMessageRepository;
+
+    @Autowired
+    private OutboxRelayLeaseRepository outboxRelayLeaseRepository;
+
+    @Autowired
+    private PlatformTransactionManager transactionManager;
+
+    private TransactionTemplate tx;
+    private Outbox outbox;
+    private final List<String> delivered = new ArrayList<>();
+    private final Map<String, Integer> failuresLeft = new HashMap<>();
+    private OutboxRelay relay;
+
+    @BeforeEach
+    void setUp() {
+        outboxMessageRepository.deleteAll();
+        outboxRelayLeaseRepository.deleteAll();
+        tx = new TransactionTemplate(transactionManager);
+        outbox = new Outbox(outboxMessageRepository, new ObjectMapper());
+        OutboxHandler handler = message -> {
+            String payload = message.getPayload();
+            if (failuresLeft.merge(payload, -1, Integer::sum) >= 0) {
+                throw new IllegalStateException("consumer unavailable");
+            }
+            delivered.add(payload);
+        };
+        relay = relay(handler);
+    }
+
+    @Test
+    void onlyTheLeaseHolderRelaysUntilItsLeaseLapses() {
+        OutboxRelay other = relay(message -> delivered.add(message.getPayload()));
+        LocalDateTime now = LocalDateTime.now();
+
+        assertTrue(relay.holdLease(now));
+        assertFalse(other.holdLease(now));
+        assertTrue(relay.holdLease(now.plusSeconds(5)));
+        assertFalse(other.holdLease(now.plusSeconds(10)));
+
+        assertTrue(other.holdLease(now.plusSeconds(16)));
+        assertFalse(relay.holdLease(now.plusSeconds(16)));
+    }
+
+    @Test
+    void deliversOnlyCommittedMessages() {
+        tx.executeWithoutResult(status -> outbox.enqueue(1L, "test", "kept"));
+        tx.executeWithoutResult(status -> {
+            outbox.enqueue(1L, "test", "rolled back");
+            status.setRollbackOnly();
+        });
+
+        assertEquals(1, relay.drain(LocalDateTime.now()));
+
+        assertEquals(List.of("\"kept\""), delivered);
+        assertEquals(OutboxStatus.PUBLISHED, outboxMessageRepository.findAll().get(0).getStatus());
+        assertEquals(0, relay.drain(LocalDateTime.now()));
+    }
+
+    @Test
+    void failureHoldsBackItsEventOnlyAndRetriesInOrder() {
+        tx.executeWithoutResult(status -> {
+            outbox.enqueue(1L, "test", "a1");
+            outbox.enqueue(2L, "test", "b1");
+            outbox.enqueue(1L, "test", "a2");
+        });
+        failuresLeft.put("\"a1\"", 1);
+
+        LocalDateTime now = LocalDateTime.now().truncatedTo(ChronoUnit.MILLIS);
+        relay.drain(now);
+        assertEquals(List.of("\"b1\""), delivered);
+
+        assertEquals(0, relay.drain(now.plusNanos(500_000_000)));
+        assertEquals(List.of("\"b1\""), delivered);
+
+        relay.drain(now.plusSeconds(2));
+        assertEquals(List.of("\"b1\"", "\"a1\"", "\"a2\""), delivered);
+    }
+
+    @Test
+    void backoffGrowsAndMessageIsParkedAfterMaxAttempts() {
+        tx.executeWithoutResult(status -> {
+            outbox.enqueue(1L, "test", "poison");
+            outbox.enqueue(1L, "test", "next");
+        });
+        failuresLeft.put("\"poison\"", 10);
+
+        LocalDateTime now = LocalDateTime.now().truncatedTo(ChronoUnit.MILLIS);
+        relay.drain(now);
+        OutboxMessage first = outboxMessageRepository.findAll().get(0);
+        assertEquals(1, first.getAttempts());
+        assertEquals(now.plusSeconds(1), first.getNextAttemptAt());
+
+        relay.drain(now.plusSeconds(1));
+        assertEquals(now.plusSeconds(3), outboxMessageRepository.findById(first.getId()).orElseThrow().getNextAttemptAt());
+
+        relay.drain(now.plusSeconds(3));
+        OutboxMessage parked = outboxMessageRepository.findById(first.getId()).orElseThrow();
+        assertEquals(OutboxStatus.FAILED, parked.getStatus());
+        assertTrue(parked.getLastError().contains("consumer unavailable"));
+
+        relay.drain(now.plusSeconds(3));
+        assertEquals(List.of("\"next\""), delivered);
+    }
+
+    private OutboxRelay relay(OutboxHandler handler) {
+        return new OutboxRelay(outboxMessageRepository, outboxRelayLeaseRepository, handler, true, 100, 3, 1_000, 60_000, 24, 10_000);
+    }
+}
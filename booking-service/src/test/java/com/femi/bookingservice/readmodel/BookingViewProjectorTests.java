@@ -0,0 +1,229 @@
+package com.femi.bookingservice.readmodel;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.femi.bookingservice.client.EventLookup;
+import com.femi.bookingservice.client.UserBatcher;
+import com.femi.bookingservice.client.UserServiceClient;
+import com.femi.bookingservice.dto.ApiResponseData;
+import com.femi.bookingservice.dto.BookingViewPageDto;
+import com.femi.bookingservice.dto.EventBookingDto;
+import com.femi.bookingservice.dto.EventBookingPageDto;
+import com.femi.bookingservice.dto.EventDto;
+import com.femi.bookingservice.dto.EventStatus;
+import com.femi.bookingservice.dto.Role;
+import com.femi.bookingservice.dto.SeatChangeDto;
+import com.femi.bookingservice.dto.UserBatchRequestDto;
+import com.femi.bookingservice.dto.UserDto;
+import com.femi.bookingservice.inventory.SeatAvailabilityReplica;
+import com.femi.bookingservice.model.Book;
+import com.femi.bookingservice.model.BookingStatus;
+import com.femi.bookingservice.model.BookingView;
+import com.femi.bookingservice.repository.BookingRepository;
+import com.femi.bookingservice.repository.BookingViewRepository;
+import com.femi.bookingservice.service.BookingViewService;
+import com.femi.common.exceptions.UnauthorizedException;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.jdbc.AutoConfigureTestDatabase;
+import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
+import org.springframework.http.ResponseEntity;
+import org.springframework.test.util.ReflectionTestUtils;
+import org.springframework.transaction.annotation.Propagation;
+import org.springframework.transaction.annotation.Transactional;
+import org.springframework.web.client.RestClient;
+
+import java.math.BigDecimal;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Set;
+import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+@DataJpaTest(properties = {
+        "spring.datasource.url=jdbc:h2:mem:views;MODE=MySQL;DB_CLOSE_DELAY=-1",
+        "spring.datasource.driver-class-name=org.h2.Driver",
+        "spring.jpa.properties.hibernate.dialect=org.hibernate.dialect.H2Dialect",
+        "spring.jpa.hibernate.ddl-auto=create-drop",
+        "eureka.client.enabled=false"
+})
+@AutoConfigureTestDatabase(replace = AutoConfigureTestDatabase.Replace.NONE)
+@Transactional(propagation = Propagation.NOT_SUPPORTED)
+class BookingViewProjectorTests {
+
+    private static final LocalDateTime WHEN = LocalDateTime.of(2030, 1, 1, 20, 0);
+
+    @Autowired
+    private BookingRepository bookingRepository;
+
+    @Autowired
+    private BookingViewRepository bookingViewRepository;
+
+    private final AtomicInteger lookups = new AtomicInteger();
+    private final ConcurrentLinkedQueue<Set<Long>> userBatches = new ConcurrentLinkedQueue<>();
+    private BookingViewProjector projector;
+    private BookingViewService bookingViewService;
+
+    @BeforeEach
+    void setUp() {
+        bookingViewRepository.deleteAll();
+        bookingRepository.deleteAll();
+        EventLookup eventLookup = new EventLookup(eventId -> {
+            lookups.incrementAndGet();
+            return ResponseEntity.ok(EventDto.builder()
+                    .id(eventId)
+                    .name("Event " + eventId)
+                    .venue("Hall " + eventId)
+                    .eventDateTime(WHEN)
+                    .status(EventStatus.ACTIVE)
+                    .build());
+        }, new SimpleMeterRegistry(), 0);
+        SeatAvailabilityReplica replica = new SeatAvailabilityReplica(RestClient.builder(), new ObjectMapper(), eventLookup,
+                event -> { }, false, 45_000, 1_000, 30_000);
+        projector = new BookingViewProjector(bookingRepository, bookingViewRepository, replica, eventLookup, new ObjectMapper());
+        ReflectionTestUtils.setField(projector, "backfillBatchSize", 4);
+        UserBatcher userBatcher = new UserBatcher(new UserServiceClient() {
+            @Override
+            public ResponseEntity<ApiResponseData<UserDto>> getUserById(Long id, String authToken) {
+                throw new UnsupportedOperationException();
+            }
+
+            @Override
+            public ResponseEntity<ApiResponseData<List<UserDto>>> getUsersByIds(UserBatchRequestDto request, String authToken) {
+                userBatches.add(request.getIds());
+                return ResponseEntity.ok(ApiResponseData.<List<UserDto>>builder()
+                        .success(true)
+                        .data(request.getIds().stream().map(id -> user(id, Role.USER)).toList())
+                        .build());
+            }
+
+            @Override
+            public String getJwks() {
+                throw new UnsupportedOperationException();
+            }
+        }, 1, 100);
+        bookingViewService = new BookingViewService(bookingViewRepository, userBatcher);
+    }
+
+    @Test
+    void projectsBookingWithEventSnapshotAndFollowsItsStatus() {
+        Book book = booking(7L, 1L);
+        projector.project(book.getId());
+
+        BookingView view = bookingViewRepository.findById(book.getId()).orElseThrow();
+        assertEquals("Event 1", view.getEventName());
+        assertEquals("Hall 1", view.getEventVenue());
+        assertEquals(BookingStatus.PENDING, view.getStatus());
+
+        bookingRepository.updateStatus(book.getId(), List.of(BookingStatus.PENDING), BookingStatus.CONFIRMED, LocalDateTime.now());
+        projector.project(book.getId());
+        projector.project(book.getId());
+
+        assertEquals(BookingStatus.CONFIRMED, bookingViewRepository.findById(book.getId()).orElseThrow().getStatus());
+        assertEquals(1, lookups.get());
+    }
+
+    @Test
+    void racingProjectionsNeitherCollideNorGoBackwards() {
+        Book book = booking(7L, 1L);
+        BookingView first = BookingView.builder()
+                .bookingId(book.getId())
+                .userId(7L)
+                .eventId(1L)
+                .numberOfTickets(2)
+                .totalPrice(BigDecimal.TEN)
+                .status(BookingStatus.PENDING)
+                .updatedAt(book.getUpdatedAt())
+                .build();
+        // Both the backfill and the relay found no view and insert one
+        bookingViewRepository.upsert(first);
+        bookingViewRepository.upsert(first);
+        assertEquals(1, bookingViewRepository.count());
+
+        bookingRepository.updateStatus(book.getId(), List.of(BookingStatus.PENDING), BookingStatus.CONFIRMED, LocalDateTime.now().plusSeconds(1));
+        projector.project(book.getId());
+        bookingViewRepository.upsert(first);
+
+        assertEquals(BookingStatus.CONFIRMED, bookingViewRepository.findById(book.getId()).orElseThrow().getStatus());
+    }
+
+    @Test
+    void eventChangesRewriteTheSnapshotOnEveryViewOfThatEvent() {
+        Book first = booking(7L, 1L);
+        Book second = booking(8L, 1L);
+        Book other = booking(7L, 2L);
+        List.of(first, second, other).forEach(book -> projector.project(book.getId()));
+
+        projector.onEventChanged(new SeatChangeDto(1, 1L, 10, 10, EventStatus.CANCELLED, "Moved", "Arena", WHEN.plusDays(1)));
+
+        for (Book book : List.of(first, second)) {
+            BookingView view = bookingViewRepository.findById(book.getId()).orElseThrow();
+            assertEquals("Moved", view.getEventName());
+            assertEquals(EventStatus.CANCELLED, view.getEventStatus());
+            assertEquals(WHEN.plusDays(1), view.getEventDateTime());
+        }
+        assertEquals("Event 2", bookingViewRepository.findById(other.getId()).orElseThrow().getEventName());
+    }
+
+    @Test
+    void backfillsMissingViewsAndPagesNewestFirst() {
+        List<Long> ids = new ArrayList<>();
+        for (int i = 0; i < 5; i++) {
+            ids.add(booking(7L, 1L).getId());
+        }
+        booking(8L, 1L);
+
+        projector.backfill();
+
+        List<Long> seen = new ArrayList<>();
+        String cursor = null;
+        do {
+            BookingViewPageDto page = bookingViewService.getBookings(7L, cursor, 2);
+            page.getBookings().forEach(view -> seen.add(view.getBookingId()));
+            cursor = page.getNextCursor();
+        } while (cursor != null);
+
+        assertEquals(ids.reversed(), seen);
+        assertEquals(6, bookingViewRepository.count());
+    }
+
+    @Test
+    void eventBookingsCarryUserDetailsFromOneBatchedLookup() {
+        booking(7L, 1L);
+        booking(8L, 1L);
+        booking(7L, 1L);
+        booking(9L, 2L);
+        projector.backfill();
+        UserDto admin = user(1L, Role.ADMIN);
+
+        EventBookingPageDto page = bookingViewService.getEventBookings(1L, null, 10, admin, "Bearer admin");
+
+        assertEquals(List.of(7L, 8L, 7L), page.getBookings().stream().map(EventBookingDto::getUserId).toList().reversed());
+        assertEquals("user8", page.getBookings().get(1).getUsername());
+        assertEquals(List.of(Set.of(7L, 8L)), List.copyOf(userBatches));
+        assertThrows(UnauthorizedException.class,
+                () -> bookingViewService.getEventBookings(1L, null, 10, user(7L, Role.USER), "Bearer user"));
+    }
+
+    private static UserDto user(Long id, Role role) {
+        UserDto user = new UserDto();
+        user.setId(id);
+        user.setUsername("user" + id);
+        user.setRole(role);
+        return user;
+    }
+
+    private Book booking(Long userId, Long eventId) {
+        return bookingRepository.save(Book.builder()
+                .userId(userId)
+                .eventId(eventId)
+                .numberOfTickets(2)
+                .totalPrice(BigDecimal.TEN)
+                .status(BookingStatus.PENDING)
+                .build());
+    }
+}
@@ -0,0 +1,150 @@
+package com.femi.bookingservice.tally;
+
+import com.femi.bookingservice.model.Book;
+import com.femi.bookingservice.model.BookingStatus;
+import com.femi.bookingservice.model.EventTicketTallyId;
+import com.femi.bookingservice.repository.BookingRepository;
+import com.femi.bookingservice.repository.TicketTallyRepository;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.jdbc.AutoConfigureTestDatabase;
+import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
+import org.springframework.context.annotation.Import;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.annotation.Propagation;
+import org.springframework.transaction.annotation.Transactional;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.math.BigDecimal;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+@DataJpaTest(properties = {
+        "spring.datasource.url=jdbc:h2:mem:tally;MODE=MySQL;DB_CLOSE_DELAY=-1",
+        "spring.datasource.driver-class-name=org.h2.Driver",
+        "spring.jpa.properties.hibernate.dialect=org.hibernate.dialect.H2Dialect",
+        "spring.jpa.hibernate.ddl-auto=create-drop",
+        "eureka.client.enabled=false"
+})
+@AutoConfigureTestDatabase(replace = AutoConfigureTestDatabase.Replace.NONE)
+@Import(TicketTally.class)
+@Transactional(propagation = Propagation.NOT_SUPPORTED)
+class TicketTallyTests {
+
+    private static final Long EVENT_ID = 1L;
+
+    @Autowired
+    private TicketTally ticketTally;
+
+    @Autowired
+    private BookingRepository bookingRepository;
+
+    @Autowired
+    private TicketTallyRepository ticketTallyRepository;
+
+    @Autowired
+    private PlatformTransactionManager transactionManager;
+
+    private TransactionTemplate tx;
+
+    @BeforeEach
+    void setUp() {
+        tx = new TransactionTemplate(transactionManager);
+        bookingRepository.deleteAll();
+        tx.executeWithoutResult(status -> ticketTally.verify());
+    }
+
+    @Test
+    void appliesTransitionsToTableAndMemoryOnCommit() {
+        tx.executeWithoutResult(status -> {
+            ticketTally.record(EVENT_ID, null, BookingStatus.PENDING, 3);
+            assertEquals(0, ticketTally.tickets(EVENT_ID, BookingStatus.PENDING));
+        });
+        assertEquals(3, ticketTally.tickets(EVENT_ID, BookingStatus.PENDING));
+        assertEquals(3, stored(BookingStatus.PENDING));
+
+        tx.executeWithoutResult(status -> ticketTally.record(EVENT_ID, BookingStatus.PENDING, BookingStatus.CONFIRMED, 3));
+
+        assertEquals(0, ticketTally.tickets(EVENT_ID, BookingStatus.PENDING));
+        assertEquals(3, ticketTally.tickets(EVENT_ID, List.of(BookingStatus.PENDING, BookingStatus.CONFIRMED)));
+        assertEquals(0, stored(BookingStatus.PENDING));
+        assertEquals(3, stored(BookingStatus.CONFIRMED));
+    }
+
+    @Test
+    void lockTicketsSumsTheHeldStatuses() {
+        tx.executeWithoutResult(status -> {
+            ticketTally.record(EVENT_ID, null, BookingStatus.PENDING, 3);
+            ticketTally.record(EVENT_ID, null, BookingStatus.CONFIRMED, 2);
+            ticketTally.record(EVENT_ID, null, BookingStatus.CANCELLED, 4);
+        });
+
+        Long held = tx.execute(status -> ticketTally.lockTickets(EVENT_ID, List.of(BookingStatus.PENDING, BookingStatus.CONFIRMED)));
+        Long none = tx.execute(status -> ticketTally.lockTickets(2L, List.of(BookingStatus.PENDING, BookingStatus.CONFIRMED)));
+
+        assertEquals(5, held);
+        assertEquals(0, none);
+    }
+
+    @Test
+    void rolledBackTransitionsLeaveNoTrace() {
+        tx.executeWithoutResult(status -> {
+            ticketTally.record(EVENT_ID, null, BookingStatus.PENDING, 2);
+            status.setRollbackOnly();
+        });
+
+        assertEquals(0, ticketTally.tickets(EVENT_ID, BookingStatus.PENDING));
+        assertEquals(0, stored(BookingStatus.PENDING));
+    }
+
+    @Test
+    void requiresSurroundingTransaction() {
+        assertThrows(RuntimeException.class, () -> ticketTally.record(EVENT_ID, null, BookingStatus.PENDING, 1));
+    }
+
+    @Test
+    void verifyRebuildsTalliesFromBookings() {
+        bookingRepository.save(book(2, BookingStatus.PENDING));
+        bookingRepository.save(book(4, BookingStatus.CONFIRMED));
+        bookingRepository.save(book(1, BookingStatus.CONFIRMED));
+        tx.executeWithoutResult(status -> ticketTally.record(EVENT_ID, null, BookingStatus.CANCELLED, 9));
+
+        tx.executeWithoutResult(status -> ticketTally.verify());
+
+        assertEquals(2, ticketTally.tickets(EVENT_ID, BookingStatus.PENDING));
+        assertEquals(5, ticketTally.tickets(EVENT_ID, BookingStatus.CONFIRMED));
+        assertEquals(0, ticketTally.tickets(EVENT_ID, BookingStatus.CANCELLED));
+        assertEquals(5, stored(BookingStatus.CONFIRMED));
+        assertEquals(0, stored(BookingStatus.CANCELLED));
+    }
+
+    @Test
+    void verifyReloadsTransitionsCommittedElsewhere() {
+        bookingRepository.save(book(3, BookingStatus.CONFIRMED));
+        tx.executeWithoutResult(status -> ticketTallyRepository.add(EVENT_ID, BookingStatus.CONFIRMED.name(), 3));
+        assertEquals(0, ticketTally.tickets(EVENT_ID, BookingStatus.CONFIRMED));
+
+        tx.executeWithoutResult(status -> ticketTally.verify());
+
+        assertEquals(3, ticketTally.tickets(EVENT_ID, BookingStatus.CONFIRMED));
+        assertEquals(3, stored(BookingStatus.CONFIRMED));
+    }
+
+    private long stored(BookingStatus status) {
+        return ticketTallyRepository.findById(new EventTicketTallyId(EVENT_ID, status))
+                .map(tally -> tally.getTickets())
+                .orElse(0L);
+    }
+
+    private static Book book(int tickets, BookingStatus status) {
+        return Book.builder()
+                .eventId(EVENT_ID)
+                .userId(10L)
+                .numberOfTickets(tickets)
+                .totalPrice(BigDecimal.TEN)
+                .status(status)
+                .build();
+    }
+}
@@ -0,0 +1,75 @@
+package com.femi.bookingservice.waitlist;
+
+import com.femi.bookingservice.model.WaitlistEntry;
+import com.femi.bookingservice.model.WaitlistStatus;
+import org.junit.jupiter.api.Test;
+
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class WaitQueueTests {
+
+    private final WaitQueue queue = new WaitQueue();
+
+    @Test
+    void servesHigherPriorityFirstThenArrivalOrder() {
+        queue.add(entry(3L, 1L, 0));
+        queue.add(entry(1L, 1L, 0));
+        queue.add(entry(5L, 1L, 10));
+        queue.add(entry(2L, 1L, 0));
+        queue.add(entry(4L, 2L, 0));
+
+        List<Long> order = queue.head(1L, 10).stream().map(WaitQueue.Waiter::entryId).toList();
+
+        assertEquals(List.of(5L, 1L, 2L, 3L), order);
+        assertEquals(1, queue.size(2L));
+    }
+
+    @Test
+    void headIsBoundedAndRemovalKeepsOrder() {
+        for (long id = 1; id <= 5; id++) {
+            queue.add(entry(id, 1L, 0));
+        }
+
+        List<WaitQueue.Waiter> head = queue.head(1L, 2);
+        assertEquals(List.of(1L, 2L), head.stream().map(WaitQueue.Waiter::entryId).toList());
+
+        head.forEach(queue::remove);
+
+        assertEquals(3, queue.size(1L));
+        assertEquals(3L, queue.head(1L, 1).get(0).entryId());
+    }
+
+    @Test
+    void clearDropsEvent() {
+        queue.add(entry(1L, 1L, 0));
+
+        queue.clear(1L);
+
+        assertEquals(0, queue.size(1L));
+        assertTrue(queue.head(1L, 10).isEmpty());
+    }
+
+    @Test
+    void syncMatchesTheTable() {
+        queue.add(entry(1L, 1L, 0));
+        queue.add(entry(2L, 1L, 0));
+
+        queue.sync(List.of(entry(2L, 1L, 0), entry(3L, 2L, 0)));
+
+        assertEquals(List.of(2L), queue.head(1L, 10).stream().map(WaitQueue.Waiter::entryId).toList());
+        assertEquals(1, queue.size(2L));
+    }
+
+    private static WaitlistEntry entry(Long id, Long eventId, int priority) {
+        return WaitlistEntry.builder()
+                .id(id)
+                .eventId(eventId)
+                .userId(100L + id)
+                .numberOfTickets(1)
+                .priority(priority)
+                .status(WaitlistStatus.WAITING)
+                .build();
+    }
+}
@@ -0,0 +1,63 @@
+package com.femi.bookingservice.waitlist;
+
+import com.femi.bookingservice.client.EventLookup;
+import com.femi.bookingservice.dto.EventDto;
+import com.femi.bookingservice.dto.EventStatus;
+import com.femi.bookingservice.expiry.BookingExpiryScheduler;
+import com.femi.bookingservice.inventory.SeatInventory;
+import com.femi.bookingservice.model.Book;
+import com.femi.bookingservice.model.WaitlistEntry;
+import com.femi.bookingservice.model.WaitlistStatus;
+import com.femi.bookingservice.repository.WaitlistRepository;
+import com.femi.bookingservice.service.WaitlistService;
+import org.junit.jupiter.api.Test;
+import org.springframework.test.util.ReflectionTestUtils;
+
+import java.math.BigDecimal;
+import java.util.List;
+import java.util.Map;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.*;
+
+class WaitlistPromoterTests {
+
+    private final WaitQueue waitQueue = new WaitQueue();
+    private final WaitlistRepository waitlistRepository = mock(WaitlistRepository.class);
+    private final WaitlistService waitlistService = mock(WaitlistService.class);
+    private final SeatInventory seatInventory = mock(SeatInventory.class);
+    private final EventLookup eventLookup = mock(EventLookup.class);
+    private final WaitlistPromoter promoter = new WaitlistPromoter(waitQueue, waitlistRepository, waitlistService,
+            seatInventory, eventLookup, mock(BookingExpiryScheduler.class));
+
+    @Test
+    void dropsHeadsThatCanNeverFitInsteadOfBlockingTheQueue() {
+        ReflectionTestUtils.setField(promoter, "batchSize", 10);
+        EventDto event = EventDto.builder().id(1L).totalSeats(100).status(EventStatus.SOLD_OUT).ticketPrice(BigDecimal.TEN).build();
+        when(eventLookup.getEvent(1L)).thenReturn(event);
+        when(seatInventory.getAvailableSeats(1L)).thenReturn(4);
+        when(seatInventory.tryHold(event, 2)).thenReturn(true);
+        when(waitlistService.offer(eq(event), any())).thenReturn(Map.of(2L, Book.builder().id(20L).eventId(1L).build()));
+        waitQueue.add(entry(1L, 500));
+        waitQueue.add(entry(2L, 2));
+
+        promoter.promote();
+
+        verify(waitlistRepository).cancel(eq(1L), any());
+        verify(waitlistService).offer(event, List.of(2L));
+        assertEquals(0, waitQueue.size(1L));
+    }
+
+    private static WaitlistEntry entry(Long id, int tickets) {
+        return WaitlistEntry.builder()
+                .id(id)
+                .eventId(1L)
+                .userId(100L + id)
+                .numberOfTickets(tickets)
+                .priority(0)
+                .status(WaitlistStatus.WAITING)
+                .build();
+    }
+}
@@ -0,0 +1,70 @@
+package com.femi.common.admission;
+
+import com.femi.common.exceptions.TooManyRequestsException;
+import io.github.resilience4j.bulkhead.Bulkhead;
+import io.github.resilience4j.bulkhead.BulkheadRegistry;
+import io.github.resilience4j.ratelimiter.RateLimiter;
+import io.github.resilience4j.ratelimiter.RateLimiterConfig;
+import io.github.resilience4j.ratelimiter.RateLimiterRegistry;
+
+import java.util.Iterator;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+
+public class AdmissionControl {
+
+    private final RateLimiterRegistry rateLimiterRegistry;
+    private final BulkheadRegistry bulkheadRegistry;
+    private final int maxTrackedKeys;
+    private final Map<String, RateLimiter> limiters = new ConcurrentHashMap<>();
+
+    public AdmissionControl(RateLimiterRegistry rateLimiterRegistry,
+                            BulkheadRegistry bulkheadRegistry,
+                            int maxTrackedKeys) {
+        this.rateLimiterRegistry = rateLimiterRegistry;
+        this.bulkheadRegistry = bulkheadRegistry;
+        this.maxTrackedKeys = maxTrackedKeys;
+    }
+
+    public void acquire(String limit, String key) {
+        String name = limit + ":" + key;
+        RateLimiter limiter = limiters.get(name);
+        if (limiter == null) {
+            if (limiters.size() >= maxTrackedKeys) {
+                evict();
+            }
+            limiter = limiters.computeIfAbsent(name, n -> RateLimiter.of(n, config(limit)));
+        }
+        if (!limiter.acquirePermission()) {
+            long refreshMillis = limiter.getRateLimiterConfig().getLimitRefreshPeriod().toMillis();
+            throw new TooManyRequestsException("Too many requests, try again later",
+                    Math.max(1, (refreshMillis + 999) / 1000));
+        }
+    }
+
+    public Bulkhead bulkhead(String name) {
+        return bulkheadRegistry.bulkhead(name);
+    }
+
+    public int trackedKeys() {
+        return limiters.size();
+    }
+
+    private RateLimiterConfig config(String limit) {
+        return rateLimiterRegistry.getConfiguration(limit)
+                .orElseThrow(() -> new IllegalStateException("No rate limiter config named " + limit));
+    }
+
+    // A limiter with a full bucket carries no state, so dropping it is free; if that is not
+    // enough, drop an arbitrary tenth.
+    private void evict() {
+        limiters.values().removeIf(limiter ->
+                limiter.getMetrics().getAvailablePermissions() >= limiter.getRateLimiterConfig().getLimitForPeriod());
+        Iterator<RateLimiter> iterator = limiters.values().iterator();
+        int target = maxTrackedKeys - Math.max(maxTrackedKeys / 10, 1);
+        while (limiters.size() > target && iterator.hasNext()) {
+            iterator.next();
+            iterator.remove();
+        }
+    }
+}
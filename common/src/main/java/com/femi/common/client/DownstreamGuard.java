@@ -0,0 +1,89 @@
+package com.femi.common.client;
+
+import com.femi.common.exceptions.ServiceUnavailableException;
+import feign.FeignException;
+import io.github.resilience4j.bulkhead.Bulkhead;
+import io.github.resilience4j.bulkhead.BulkheadFullException;
+import io.github.resilience4j.bulkhead.BulkheadRegistry;
+import io.github.resilience4j.circuitbreaker.CallNotPermittedException;
+import io.github.resilience4j.circuitbreaker.CircuitBreaker;
+import io.github.resilience4j.circuitbreaker.CircuitBreakerRegistry;
+import io.github.resilience4j.timelimiter.TimeLimiter;
+import io.github.resilience4j.timelimiter.TimeLimiterRegistry;
+import io.micrometer.core.instrument.Meter;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import jakarta.annotation.PreDestroy;
+
+import java.util.concurrent.Callable;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.TimeoutException;
+import java.util.function.Supplier;
+
+public class DownstreamGuard {
+
+    private final CircuitBreakerRegistry circuitBreakers;
+    private final BulkheadRegistry bulkheads;
+    private final TimeLimiterRegistry timeLimiters;
+    private final MeterRegistry meterRegistry;
+    private final Meter.MeterProvider<Timer> callTimers;
+    private final ExecutorService calls = Executors.newVirtualThreadPerTaskExecutor();
+
+    public DownstreamGuard(CircuitBreakerRegistry circuitBreakers,
+                           BulkheadRegistry bulkheads,
+                           TimeLimiterRegistry timeLimiters,
+                           MeterRegistry meterRegistry) {
+        this.circuitBreakers = circuitBreakers;
+        this.bulkheads = bulkheads;
+        this.timeLimiters = timeLimiters;
+        this.meterRegistry = meterRegistry;
+        this.callTimers = Timer.builder("feign.calls")
+                .description("Calls to other services, including time spent waiting for the guard")
+                .publishPercentileHistogram()
+                .withRegistry(meterRegistry);
+    }
+
+    @PreDestroy
+    public void stop() {
+        calls.shutdownNow();
+    }
+
+    public <T> T call(String service, String method, Supplier<T> call) {
+        CircuitBreaker circuitBreaker = circuitBreakers.circuitBreaker(service);
+        Bulkhead bulkhead = bulkheads.bulkhead(service);
+        TimeLimiter timeLimiter = timeLimiters.timeLimiter(service);
+        Callable<T> guarded = CircuitBreaker.decorateCallable(circuitBreaker,
+                Bulkhead.decorateCallable(bulkhead,
+                        TimeLimiter.decorateFutureSupplier(timeLimiter, () -> calls.submit(call::get))));
+        Timer.Sample sample = Timer.start(meterRegistry);
+        String outcome = "success";
+        try {
+            return guarded.call();
+        } catch (FeignException.FeignClientException e) {
+            outcome = "client_error";
+            throw e;
+        } catch (Exception e) {
+            outcome = outcome(e);
+            if (e instanceof InterruptedException) {
+                Thread.currentThread().interrupt();
+            }
+            throw new ServiceUnavailableException(service + " is unavailable: " + e.getMessage(), e);
+        } finally {
+            sample.stop(callTimers.withTags("client", service, "method", method, "outcome", outcome));
+        }
+    }
+
+    private static String outcome(Exception e) {
+        if (e instanceof CallNotPermittedException) {
+            return "circuit_open";
+        }
+        if (e instanceof BulkheadFullException) {
+            return "bulkhead_full";
+        }
+        if (e instanceof TimeoutException) {
+            return "timeout";
+        }
+        return "error";
+    }
+}
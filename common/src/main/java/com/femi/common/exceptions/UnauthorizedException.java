@@ -1,4 +1,4 @@
-package com.femi.eventservice.exceptions;
+package com.femi.common.exceptions;
 
 public class UnauthorizedException extends RuntimeException {
     public UnauthorizedException(String message) {
@@ -0,0 +1,140 @@
+package com.femi.common.loadbalancer;
+
+import org.springframework.cloud.client.ServiceInstance;
+
+import java.util.ArrayList;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.function.LongSupplier;
+
+class InstancePicker {
+
+    private static final double LATENCY_WEIGHT = 0.3;
+
+    private final Map<String, Stats> stats = new ConcurrentHashMap<>();
+    private final int maxFailures;
+    private final long baseEjectionMs;
+    private final long maxEjectionMs;
+    private final LongSupplier clock;
+
+    InstancePicker(int maxFailures, long baseEjectionMs, long maxEjectionMs, LongSupplier clock) {
+        this.maxFailures = maxFailures;
+        this.baseEjectionMs = baseEjectionMs;
+        this.maxEjectionMs = maxEjectionMs;
+        this.clock = clock;
+    }
+
+    ServiceInstance choose(List<ServiceInstance> instances) {
+        if (instances.isEmpty()) {
+            return null;
+        }
+        if (stats.size() > instances.size() * 2) {
+            forgetMissing(instances);
+        }
+
+        long now = clock.getAsLong();
+        List<ServiceInstance> healthy = new ArrayList<>(instances.size());
+        for (ServiceInstance instance : instances) {
+            if (!statsFor(instance).isEjected(now)) {
+                healthy.add(instance);
+            }
+        }
+        // With every instance ejected, keep spreading load instead of failing every call.
+        List<ServiceInstance> candidates = healthy.isEmpty() ? instances : healthy;
+        if (candidates.size() == 1) {
+            return candidates.get(0);
+        }
+
+        ThreadLocalRandom random = ThreadLocalRandom.current();
+        int first = random.nextInt(candidates.size());
+        int second = random.nextInt(candidates.size() - 1);
+        if (second >= first) {
+            second++;
+        }
+        ServiceInstance a = candidates.get(first);
+        ServiceInstance b = candidates.get(second);
+        return statsFor(a).isBetterThan(statsFor(b)) ? a : b;
+    }
+
+    void onStart(ServiceInstance instance) {
+        statsFor(instance).outstanding.incrementAndGet();
+    }
+
+    void onComplete(ServiceInstance instance, boolean success, long latencyMs) {
+        Stats stats = statsFor(instance);
+        stats.outstanding.decrementAndGet();
+        if (success) {
+            stats.succeeded(latencyMs);
+        } else {
+            stats.failed(clock.getAsLong());
+        }
+    }
+
+    int outstanding(ServiceInstance instance) {
+        return statsFor(instance).outstanding.get();
+    }
+
+    boolean isEjected(ServiceInstance instance) {
+        return statsFor(instance).isEjected(clock.getAsLong());
+    }
+
+    private Stats statsFor(ServiceInstance instance) {
+        return stats.computeIfAbsent(key(instance), k -> new Stats());
+    }
+
+    private void forgetMissing(List<ServiceInstance> instances) {
+        Set<String> live = new HashSet<>();
+        for (ServiceInstance instance : instances) {
+            live.add(key(instance));
+        }
+        stats.keySet().retainAll(live);
+    }
+
+    private static String key(ServiceInstance instance) {
+        return instance.getInstanceId() != null ? instance.getInstanceId() : instance.getHost() + ":" + instance.getPort();
+    }
+
+    private final class Stats {
+        private final AtomicInteger outstanding = new AtomicInteger();
+        private int consecutiveFailures;
+        private int ejections;
+        private long ejectedUntil;
+        private double latencyMs;
+
+        synchronized boolean isEjected(long now) {
+            return now < ejectedUntil;
+        }
+
+        synchronized void succeeded(long sampleMs) {
+            consecutiveFailures = 0;
+            ejections = 0;
+            latencyMs = latencyMs == 0 ? sampleMs : latencyMs + LATENCY_WEIGHT * (sampleMs - latencyMs);
+        }
+
+        synchronized void failed(long now) {
+            if (++consecutiveFailures >= maxFailures) {
+                ejections++;
+                ejectedUntil = now + Math.min(baseEjectionMs * ejections, maxEjectionMs);
+                consecutiveFailures = 0;
+            }
+        }
+
+        boolean isBetterThan(Stats other) {
+            int mine = outstanding.get();
+            int theirs = other.outstanding.get();
+            if (mine != theirs) {
+                return mine < theirs;
+            }
+            return latency() <= other.latency();
+        }
+
+        private synchronized double latency() {
+            return latencyMs;
+        }
+    }
+}
@@ -0,0 +1,106 @@
+package com.femi.common.loadbalancer;
+
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.ObjectProvider;
+import org.springframework.cloud.client.ServiceInstance;
+import org.springframework.cloud.client.loadbalancer.CompletionContext;
+import org.springframework.cloud.client.loadbalancer.DefaultResponse;
+import org.springframework.cloud.client.loadbalancer.EmptyResponse;
+import org.springframework.cloud.client.loadbalancer.LoadBalancerLifecycle;
+import org.springframework.cloud.client.loadbalancer.Request;
+import org.springframework.cloud.client.loadbalancer.RequestDataContext;
+import org.springframework.cloud.client.loadbalancer.Response;
+import org.springframework.cloud.client.loadbalancer.ResponseData;
+import org.springframework.cloud.loadbalancer.core.NoopServiceInstanceListSupplier;
+import org.springframework.cloud.loadbalancer.core.ReactorServiceInstanceLoadBalancer;
+import org.springframework.cloud.loadbalancer.core.ServiceInstanceListSupplier;
+import reactor.core.publisher.Mono;
+
+import java.io.IOException;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.TimeoutException;
+
+@Slf4j
+public class LeastOutstandingLoadBalancer implements ReactorServiceInstanceLoadBalancer,
+        LoadBalancerLifecycle<RequestDataContext, ResponseData, ServiceInstance> {
+
+    private final String serviceId;
+    private final ObjectProvider<ServiceInstanceListSupplier> serviceInstanceListSupplierProvider;
+    private final InstancePicker picker;
+
+    public LeastOutstandingLoadBalancer(String serviceId,
+                                        ObjectProvider<ServiceInstanceListSupplier> serviceInstanceListSupplierProvider,
+                                        int maxFailures, long baseEjectionMs, long maxEjectionMs) {
+        this(serviceId, serviceInstanceListSupplierProvider,
+                new InstancePicker(maxFailures, baseEjectionMs, maxEjectionMs, System::currentTimeMillis));
+    }
+
+    LeastOutstandingLoadBalancer(String serviceId,
+                                 ObjectProvider<ServiceInstanceListSupplier> serviceInstanceListSupplierProvider,
+                                 InstancePicker picker) {
+        this.serviceId = serviceId;
+        this.serviceInstanceListSupplierProvider = serviceInstanceListSupplierProvider;
+        this.picker = picker;
+    }
+
+    @Override
+    @SuppressWarnings("rawtypes")
+    public Mono<Response<ServiceInstance>> choose(Request request) {
+        ServiceInstanceListSupplier supplier = serviceInstanceListSupplierProvider.getIfAvailable(NoopServiceInstanceListSupplier::new);
+        return supplier.get(request).next().map(instances -> {
+            ServiceInstance instance = picker.choose(instances);
+            if (instance == null) {
+                log.warn("No instances available for {}", serviceId);
+                return new EmptyResponse();
+            }
+            return new DefaultResponse(instance);
+        });
+    }
+
+    @Override
+    public boolean supports(Class requestContextClass, Class responseClass, Class serverTypeClass) {
+        return RequestDataContext.class.isAssignableFrom(requestContextClass)
+                && ResponseData.class.isAssignableFrom(responseClass)
+                && ServiceInstance.class.isAssignableFrom(serverTypeClass);
+    }
+
+    @Override
+    public void onStart(Request<RequestDataContext> request) {
+    }
+
+    @Override
+    public void onStartRequest(Request<RequestDataContext> request, Response<ServiceInstance> lbResponse) {
+        if (lbResponse.hasServer()) {
+            request.getContext().setRequestStartTime(System.nanoTime());
+            picker.onStart(lbResponse.getServer());
+        }
+    }
+
+    @Override
+    public void onComplete(CompletionContext<ResponseData, ServiceInstance, RequestDataContext> completionContext) {
+        Response<ServiceInstance> lbResponse = completionContext.getLoadBalancerResponse();
+        if (lbResponse == null || !lbResponse.hasServer()) {
+            return;
+        }
+        // A 5xx still means the instance is reachable; only failing to reach it counts towards ejection
+        boolean failed = completionContext.status() == CompletionContext.Status.FAILED
+                && isConnectionFailure(completionContext.getThrowable());
+        long latencyMs = TimeUnit.NANOSECONDS.toMillis(System.nanoTime() - completionContext.getLoadBalancerRequest().getContext().getRequestStartTime());
+
+        ServiceInstance instance = lbResponse.getServer();
+        boolean wasEjected = picker.isEjected(instance);
+        picker.onComplete(instance, !failed, latencyMs);
+        if (!wasEjected && picker.isEjected(instance)) {
+            log.warn("Ejected {} instance {}:{} after repeated failures", serviceId, instance.getHost(), instance.getPort());
+        }
+    }
+
+    private static boolean isConnectionFailure(Throwable error) {
+        for (Throwable cause = error; cause != null; cause = cause.getCause()) {
+            if (cause instanceof IOException || cause instanceof TimeoutException) {
+                return true;
+            }
+        }
+        return false;
+    }
+}
@@ -0,0 +1,21 @@
+package com.femi.common.loadbalancer;
+
+import org.springframework.cloud.loadbalancer.core.ServiceInstanceListSupplier;
+import org.springframework.cloud.loadbalancer.support.LoadBalancerClientFactory;
+import org.springframework.context.annotation.Bean;
+import org.springframework.core.env.Environment;
+
+public class LoadBalancerConfig {
+
+    @Bean
+    public LeastOutstandingLoadBalancer leastOutstandingLoadBalancer(Environment environment,
+                                                                     LoadBalancerClientFactory loadBalancerClientFactory) {
+        String serviceId = environment.getProperty(LoadBalancerClientFactory.PROPERTY_NAME);
+        return new LeastOutstandingLoadBalancer(
+                serviceId,
+                loadBalancerClientFactory.getLazyProvider(serviceId, ServiceInstanceListSupplier.class),
+                environment.getProperty("client.loadbalancer.ejection.consecutive-failures", Integer.class, 3),
+                environment.getProperty("client.loadbalancer.ejection.base-ms", Long.class, 5_000L),
+                environment.getProperty("client.loadbalancer.ejection.max-ms", Long.class, 60_000L));
+    }
+}
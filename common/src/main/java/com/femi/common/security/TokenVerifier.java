@@ -0,0 +1,116 @@
+package com.femi.common.security;
+
+import com.femi.common.exceptions.UnauthorizedException;
+import io.jsonwebtoken.Claims;
+import io.jsonwebtoken.JwsHeader;
+import io.jsonwebtoken.JwtException;
+import io.jsonwebtoken.JwtParser;
+import io.jsonwebtoken.Jwts;
+import io.jsonwebtoken.LocatorAdapter;
+import io.jsonwebtoken.security.Jwk;
+import io.jsonwebtoken.security.JwkSet;
+import io.jsonwebtoken.security.Jwks;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import lombok.extern.slf4j.Slf4j;
+
+import java.security.Key;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.locks.ReentrantLock;
+import java.util.function.Supplier;
+
+@Slf4j
+public class TokenVerifier {
+
+    private final Supplier<String> jwks;
+    private final long refreshIntervalMs;
+    private final Map<String, Key> keys = new ConcurrentHashMap<>();
+    private final ReentrantLock refreshLock = new ReentrantLock();
+    private final JwtParser parser;
+    private final Timer verifiedTimer;
+    private final Timer rejectedTimer;
+    private volatile long lastRefresh;
+
+    public TokenVerifier(Supplier<String> jwks, long refreshIntervalMs, MeterRegistry meterRegistry) {
+        this.jwks = jwks;
+        this.refreshIntervalMs = refreshIntervalMs;
+        this.verifiedTimer = verifyTimer("valid", meterRegistry);
+        this.rejectedTimer = verifyTimer("invalid", meterRegistry);
+        this.parser = Jwts.parser()
+                .keyLocator(new LocatorAdapter<>() {
+                    @Override
+                    protected Key locate(JwsHeader header) {
+                        return findKey(header.getKeyId());
+                    }
+                })
+                .build();
+    }
+
+    private static Timer verifyTimer(String outcome, MeterRegistry meterRegistry) {
+        return Timer.builder("jwt.verify")
+                .description("Time spent parsing and verifying an access token")
+                .tag("outcome", outcome)
+                .publishPercentileHistogram()
+                .register(meterRegistry);
+    }
+
+    public Claims verify(String authHeader) {
+        if (authHeader == null || !authHeader.startsWith("Bearer ")) {
+            throw new UnauthorizedException("Missing or malformed Authorization header");
+        }
+
+        Claims claims;
+        long start = System.nanoTime();
+        Timer outcome = rejectedTimer;
+        try {
+            claims = parser.parseSignedClaims(authHeader.substring(7)).getPayload();
+            outcome = verifiedTimer;
+        } catch (JwtException | IllegalArgumentException e) {
+            log.debug("Rejected token: {}", e.getMessage());
+            throw new UnauthorizedException("Invalid or expired token");
+        } finally {
+            outcome.record(System.nanoTime() - start, TimeUnit.NANOSECONDS);
+        }
+
+        if (claims.get("userId") == null) {
+            throw new UnauthorizedException("Token has no user id");
+        }
+        return claims;
+    }
+
+    private Key findKey(String keyId) {
+        if (keyId == null) {
+            throw new UnauthorizedException("Token has no key id");
+        }
+        Key key = keys.get(keyId);
+        if (key == null) {
+            refreshKeys();
+            key = keys.get(keyId);
+        }
+        if (key == null) {
+            throw new UnauthorizedException("Unknown token signing key");
+        }
+        return key;
+    }
+
+    private void refreshKeys() {
+        refreshLock.lock();
+        try {
+            if (System.currentTimeMillis() - lastRefresh < refreshIntervalMs) {
+                return;
+            }
+            lastRefresh = System.currentTimeMillis();
+            JwkSet jwkSet = Jwks.setParser().build().parse(jwks.get());
+            for (Jwk<?> jwk : jwkSet.getKeys()) {
+                keys.put(jwk.getId(), jwk.toKey());
+            }
+            log.info("Loaded {} token signing keys from user-service", jwkSet.getKeys().size());
+        } catch (Exception e) {
+            log.warn("Could not load token signing keys: {}", e.getMessage());
+        } finally {
+            refreshLock.unlock();
+        }
+    }
+}
@@ -0,0 +1,71 @@
+package com.femi.common.admission;
+
+import com.femi.common.exceptions.TooManyRequestsException;
+import io.github.resilience4j.bulkhead.BulkheadConfig;
+import io.github.resilience4j.bulkhead.BulkheadRegistry;
+import io.github.resilience4j.ratelimiter.RateLimiterConfig;
+import io.github.resilience4j.ratelimiter.RateLimiterRegistry;
+import org.junit.jupiter.api.Test;
+
+import java.time.Duration;
+import java.util.Map;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class AdmissionControlTests {
+
+    private final RateLimiterRegistry rateLimiters = RateLimiterRegistry.of(Map.of(
+            "login-ip", RateLimiterConfig.custom()
+                    .limitForPeriod(2)
+                    .limitRefreshPeriod(Duration.ofMinutes(1))
+                    .timeoutDuration(Duration.ZERO)
+                    .build(),
+            "account", RateLimiterConfig.custom()
+                    .limitForPeriod(2)
+                    .limitRefreshPeriod(Duration.ofMillis(50))
+                    .timeoutDuration(Duration.ZERO)
+                    .build()));
+    private final BulkheadRegistry bulkheads = BulkheadRegistry.of(BulkheadConfig.custom()
+            .maxConcurrentCalls(1)
+            .maxWaitDuration(Duration.ZERO)
+            .build());
+
+    @Test
+    void limitsEachKeySeparatelyAndReportsRetryAfter() {
+        AdmissionControl admission = new AdmissionControl(rateLimiters, bulkheads, 100);
+
+        admission.acquire("login-ip", "10.0.0.1");
+        admission.acquire("login-ip", "10.0.0.1");
+        TooManyRequestsException e = assertThrows(TooManyRequestsException.class,
+                () -> admission.acquire("login-ip", "10.0.0.1"));
+
+        assertTrue(e.getRetryAfterSeconds() >= 1 && e.getRetryAfterSeconds() <= 60);
+        assertDoesNotThrow(() -> admission.acquire("login-ip", "10.0.0.2"));
+    }
+
+    @Test
+    void evictsIdleKeysBeforeBusyOnes() throws InterruptedException {
+        AdmissionControl admission = new AdmissionControl(rateLimiters, bulkheads, 5);
+        admission.acquire("login-ip", "10.0.0.1");
+        admission.acquire("login-ip", "10.0.0.1");
+        for (int i = 0; i < 4; i++) {
+            admission.acquire("account", "user" + i + "@example.com");
+        }
+        Thread.sleep(120);
+
+        admission.acquire("account", "new@example.com");
+
+        assertEquals(2, admission.trackedKeys());
+        assertThrows(TooManyRequestsException.class, () -> admission.acquire("login-ip", "10.0.0.1"));
+    }
+
+    @Test
+    void bulkheadsRejectOnceFull() {
+        AdmissionControl admission = new AdmissionControl(rateLimiters, bulkheads, 100);
+
+        assertTrue(admission.bulkhead("auth").tryAcquirePermission());
+        assertFalse(admission.bulkhead("auth").tryAcquirePermission());
+        admission.bulkhead("auth").onComplete();
+        assertTrue(admission.bulkhead("auth").tryAcquirePermission());
+    }
+}
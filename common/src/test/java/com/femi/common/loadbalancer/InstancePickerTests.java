@@ -0,0 +1,94 @@
+package com.femi.common.loadbalancer;
+
+import org.junit.jupiter.api.Test;
+import org.springframework.cloud.client.DefaultServiceInstance;
+import org.springframework.cloud.client.ServiceInstance;
+
+import java.util.List;
+import java.util.concurrent.atomic.AtomicLong;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class InstancePickerTests {
+
+    private final AtomicLong clock = new AtomicLong(1_000);
+    private final InstancePicker picker = new InstancePicker(3, 5_000, 60_000, clock::get);
+    private final ServiceInstance a = instance("a", 8081);
+    private final ServiceInstance b = instance("b", 8082);
+
+    @Test
+    void prefersInstanceWithFewerRequestsInFlight() {
+        picker.onStart(a);
+        picker.onStart(a);
+        picker.onStart(b);
+
+        for (int i = 0; i < 20; i++) {
+            assertSame(b, picker.choose(List.of(a, b)));
+        }
+    }
+
+    @Test
+    void breaksTiesOnLatency() {
+        picker.onStart(a);
+        picker.onComplete(a, true, 200);
+        picker.onStart(b);
+        picker.onComplete(b, true, 20);
+
+        for (int i = 0; i < 20; i++) {
+            assertSame(b, picker.choose(List.of(a, b)));
+        }
+    }
+
+    @Test
+    void ejectsAfterConsecutiveFailuresAndReadmitsLater() {
+        fail(a, 2);
+        picker.onStart(a);
+        picker.onComplete(a, true, 10);
+        fail(a, 2);
+        assertFalse(picker.isEjected(a));
+
+        fail(a, 1);
+        assertTrue(picker.isEjected(a));
+        for (int i = 0; i < 20; i++) {
+            assertSame(b, picker.choose(List.of(a, b)));
+        }
+
+        clock.addAndGet(5_000);
+        assertFalse(picker.isEjected(a));
+
+        // A second ejection in a row lasts twice as long.
+        fail(a, 3);
+        clock.addAndGet(5_000);
+        assertTrue(picker.isEjected(a));
+        clock.addAndGet(5_000);
+        assertFalse(picker.isEjected(a));
+    }
+
+    @Test
+    void fallsBackToEjectedInstancesWhenNoneAreHealthy() {
+        fail(a, 3);
+
+        assertSame(a, picker.choose(List.of(a)));
+        assertNull(picker.choose(List.of()));
+    }
+
+    @Test
+    void tracksOutstandingRequests() {
+        picker.onStart(a);
+        picker.onStart(a);
+        picker.onComplete(a, true, 5);
+
+        assertEquals(1, picker.outstanding(a));
+    }
+
+    private void fail(ServiceInstance instance, int times) {
+        for (int i = 0; i < times; i++) {
+            picker.onStart(instance);
+            picker.onComplete(instance, false, 5);
+        }
+    }
+
+    private static ServiceInstance instance(String id, int port) {
+        return new DefaultServiceInstance(id, "event-service", "localhost", port, false);
+    }
+}
@@ -0,0 +1,61 @@
+package com.femi.common.loadbalancer;
+
+import org.junit.jupiter.api.Test;
+import org.springframework.cloud.client.DefaultServiceInstance;
+import org.springframework.cloud.client.ServiceInstance;
+import org.springframework.cloud.client.loadbalancer.CompletionContext;
+import org.springframework.cloud.client.loadbalancer.DefaultRequest;
+import org.springframework.cloud.client.loadbalancer.DefaultResponse;
+import org.springframework.cloud.client.loadbalancer.Request;
+import org.springframework.cloud.client.loadbalancer.RequestDataContext;
+import org.springframework.cloud.client.loadbalancer.Response;
+import org.springframework.cloud.client.loadbalancer.ResponseData;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.HttpStatus;
+
+import java.net.ConnectException;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class LeastOutstandingLoadBalancerTests {
+
+    private final InstancePicker picker = new InstancePicker(3, 5_000, 60_000, System::currentTimeMillis);
+    private final LeastOutstandingLoadBalancer loadBalancer = new LeastOutstandingLoadBalancer("event-service", null, picker);
+    private final ServiceInstance instance = new DefaultServiceInstance("a", "event-service", "a", 8081, false);
+
+    @Test
+    void serverErrorsDoNotEjectAnInstance() {
+        for (int i = 0; i < 5; i++) {
+            complete(CompletionContext.Status.SUCCESS, null, HttpStatus.INTERNAL_SERVER_ERROR);
+        }
+
+        assertFalse(picker.isEjected(instance));
+        assertEquals(0, picker.outstanding(instance));
+    }
+
+    @Test
+    void connectionFailuresEjectAnInstance() {
+        for (int i = 0; i < 3; i++) {
+            complete(CompletionContext.Status.FAILED, new ConnectException("Connection refused"), null);
+        }
+
+        assertTrue(picker.isEjected(instance));
+    }
+
+    @Test
+    void otherClientFailuresDoNotEjectAnInstance() {
+        for (int i = 0; i < 3; i++) {
+            complete(CompletionContext.Status.FAILED, new IllegalStateException("Could not decode response"), null);
+        }
+
+        assertFalse(picker.isEjected(instance));
+    }
+
+    private void complete(CompletionContext.Status status, Throwable error, HttpStatus httpStatus) {
+        Request<RequestDataContext> request = new DefaultRequest<>(new RequestDataContext());
+        Response<ServiceInstance> lbResponse = new DefaultResponse(instance);
+        ResponseData response = httpStatus != null ? new ResponseData(httpStatus, new HttpHeaders(), null, null) : null;
+        loadBalancer.onStartRequest(request, lbResponse);
+        loadBalancer.onComplete(new CompletionContext<>(status, error, request, lbResponse, response));
+    }
+}
@@ -0,0 +1,103 @@
+package com.femi.common.security;
+
+import com.femi.common.exceptions.UnauthorizedException;
+import io.jsonwebtoken.Claims;
+import io.jsonwebtoken.Jwts;
+import io.jsonwebtoken.io.Serializer;
+import io.jsonwebtoken.jackson.io.JacksonSerializer;
+import io.jsonwebtoken.security.Jwks;
+import io.jsonwebtoken.security.RsaPublicJwk;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import java.nio.charset.StandardCharsets;
+import java.security.KeyPair;
+import java.security.KeyPairGenerator;
+import java.security.interfaces.RSAPublicKey;
+import java.util.Date;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class TokenVerifierTests {
+
+    private KeyPair keyPair;
+    private RsaPublicJwk jwk;
+    private final AtomicInteger fetches = new AtomicInteger();
+    private TokenVerifier verifier;
+
+    @BeforeEach
+    void setUp() throws Exception {
+        KeyPairGenerator generator = KeyPairGenerator.getInstance("RSA");
+        generator.initialize(2048);
+        keyPair = generator.generateKeyPair();
+        jwk = Jwks.builder().key((RSAPublicKey) keyPair.getPublic()).idFromThumbprint().build();
+
+        Serializer<Map<String, ?>> serializer = new JacksonSerializer<>();
+        String jwks = new String(serializer.serialize(Map.of("keys", List.of(jwk))), StandardCharsets.UTF_8);
+
+        verifier = new TokenVerifier(() -> {
+            fetches.incrementAndGet();
+            return jwks;
+        }, 30_000, new SimpleMeterRegistry());
+    }
+
+    @Test
+    void readsTokenClaimsAndCachesKeys() {
+        String token = token(keyPair, new Date(System.currentTimeMillis() + 60_000));
+
+        Claims first = verifier.verify("Bearer " + token);
+        Claims second = verifier.verify("Bearer " + token);
+
+        assertEquals(7L, first.get("userId", Long.class));
+        assertEquals("admin", first.get("username", String.class));
+        assertEquals("admin@example.com", first.get("email", String.class));
+        assertEquals("ADMIN", first.get("role", String.class));
+        assertEquals(first, second);
+        assertEquals(1, fetches.get());
+    }
+
+    @Test
+    void rejectsExpiredTokens() {
+        String token = token(keyPair, new Date(System.currentTimeMillis() - 1_000));
+
+        assertThrows(UnauthorizedException.class, () -> verifier.verify("Bearer " + token));
+    }
+
+    @Test
+    void rejectsTokensSignedWithAnotherKey() throws Exception {
+        KeyPairGenerator generator = KeyPairGenerator.getInstance("RSA");
+        generator.initialize(2048);
+        String token = token(generator.generateKeyPair(), new Date(System.currentTimeMillis() + 60_000));
+
+        assertThrows(UnauthorizedException.class, () -> verifier.verify("Bearer " + token));
+    }
+
+    @Test
+    void rejectsTokensWithoutAUserId() {
+        String token = Jwts.builder()
+                .header().keyId(jwk.getId()).and()
+                .subject("admin@example.com")
+                .expiration(new Date(System.currentTimeMillis() + 60_000))
+                .signWith(keyPair.getPrivate(), Jwts.SIG.RS256)
+                .compact();
+
+        assertThrows(UnauthorizedException.class, () -> verifier.verify("Bearer " + token));
+    }
+
+    private String token(KeyPair signer, Date expiration) {
+        return Jwts.builder()
+                .header().keyId(jwk.getId()).and()
+                .subject("admin@example.com")
+                .claim("userId", 7L)
+                .claim("username", "admin")
+                .claim("email", "admin@example.com")
+                .claim("role", "ADMIN")
+                .expiration(expiration)
+                .signWith(signer.getPrivate(), Jwts.SIG.RS256)
+                .compact();
+    }
+}
@@ -0,0 +1,28 @@
+package com.femi.eventservice.client;
+
+import com.femi.common.client.DownstreamGuard;
+import org.springframework.beans.factory.annotation.Qualifier;
+import org.springframework.context.annotation.Primary;
+import org.springframework.stereotype.Component;
+
+@Component
+@Primary
+public class ResilientUserServiceClient implements UserServiceClient {
+
+    static final String SERVICE = "user-service";
+
+    private final UserServiceClient delegate;
+    private final DownstreamGuard guard;
+
+    public ResilientUserServiceClient(@Qualifier("userServiceFeignClient") UserServiceClient delegate,
+                                      DownstreamGuard guard) {
+        this.delegate = delegate;
+        this.guard = guard;
+    }
+
+    // JwtVerifier keeps the keys it already has when a refresh fails, so no fallback here.
+    @Override
+    public String getJwks() {
+        return guard.call(SERVICE, "getJwks", delegate::getJwks);
+    }
+}
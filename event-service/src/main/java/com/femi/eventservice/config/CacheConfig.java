@@ -0,0 +1,37 @@
+package com.femi.eventservice.config;
+
+import com.github.benmanes.caffeine.cache.Caffeine;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.cache.CacheManager;
+import org.springframework.cache.annotation.EnableCaching;
+import org.springframework.cache.caffeine.CaffeineCacheManager;
+import org.springframework.cache.transaction.TransactionAwareCacheManagerProxy;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+
+import java.time.Duration;
+import java.util.List;
+
+@Configuration
+@EnableCaching
+public class CacheConfig {
+
+    public static final String EVENTS = "events";
+    public static final String ACTIVE_EVENTS = "activeEvents";
+
+    @Bean
+    public CacheManager cacheManager(
+            @Value("${event.cache.max-size:10000}") long maxSize,
+            @Value("${event.cache.ttl-seconds:60}") long ttlSeconds) {
+        CaffeineCacheManager cacheManager = new CaffeineCacheManager();
+        cacheManager.setCacheNames(List.of(EVENTS, ACTIVE_EVENTS));
+        cacheManager.setAllowNullValues(false);
+        cacheManager.setCaffeine(Caffeine.newBuilder()
+                .maximumSize(maxSize)
+                .expireAfterWrite(Duration.ofSeconds(ttlSeconds))
+                .recordStats());
+        // Evictions are applied after the surrounding transaction commits, so a reader
+        // cannot repopulate the cache with a row that is about to change.
+        return new TransactionAwareCacheManagerProxy(cacheManager);
+    }
+}
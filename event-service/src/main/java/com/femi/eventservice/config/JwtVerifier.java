@@ -0,0 +1,33 @@
+package com.femi.eventservice.config;
+
+import com.femi.common.security.TokenVerifier;
+import com.femi.eventservice.client.UserServiceClient;
+import com.femi.eventservice.dto.Role;
+import com.femi.eventservice.dto.UserDto;
+import io.jsonwebtoken.Claims;
+import io.micrometer.core.instrument.MeterRegistry;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+@Component
+public class JwtVerifier {
+
+    private final TokenVerifier tokenVerifier;
+
+    public JwtVerifier(UserServiceClient userServiceClient,
+                       @Value("${jwt.jwks.min-refresh-interval-ms:30000}") long refreshIntervalMs,
+                       MeterRegistry meterRegistry) {
+        this.tokenVerifier = new TokenVerifier(() -> userServiceClient.getJwks(), refreshIntervalMs, meterRegistry);
+    }
+
+    public UserDto verify(String authHeader) {
+        Claims claims = tokenVerifier.verify(authHeader);
+        String role = claims.get("role", String.class);
+        UserDto user = new UserDto();
+        user.setId(claims.get("userId", Long.class));
+        user.setUsername(claims.get("username", String.class));
+        user.setEmail(claims.get("email", String.class));
+        user.setRole(role != null ? Role.valueOf(role) : null);
+        return user;
+    }
+}
@@ -1,14 +1,23 @@
 package com.femi.eventservice.controller;
 
 import com.femi.eventservice.dto.CreateEventDto;
+import com.femi.eventservice.dto.EventPageDto;
+import com.femi.eventservice.dto.EventSummaryDto;
+import com.femi.eventservice.dto.SeatReservationRequestDto;
+import com.femi.eventservice.dto.SeatReservationResultDto;
 import com.femi.eventservice.model.Event;
 import com.femi.eventservice.service.EventService;
+import com.femi.eventservice.stream.SeatChangeStream;
 import jakarta.validation.Valid;
 import lombok.RequiredArgsConstructor;
+import org.springframework.format.annotation.DateTimeFormat;
 import org.springframework.http.HttpStatus;
+import org.springframework.http.MediaType;
 import org.springframework.http.ResponseEntity;
 import org.springframework.web.bind.annotation.*;
+import org.springframework.web.servlet.mvc.method.annotation.SseEmitter;
 
+import java.time.LocalDateTime;
 import java.util.List;
 
 @RestController
@@ -17,6 +26,7 @@ import java.util.List;
 public class EventController {
 
     private final EventService eventService;
+    private final SeatChangeStream seatChangeStream;
 
     @PostMapping
     public ResponseEntity<Event> createEvent(
@@ -44,9 +54,23 @@ public class EventController {
     }
 
     @GetMapping
-    public ResponseEntity<List<Event>> getAllEvents() {
-        List<Event> events = eventService.getAllEvents();
-        return ResponseEntity.ok(events);
+    public ResponseEntity<EventPageDto> getEvents(
+            @RequestParam(required = false) String cursor,
+            @RequestParam(defaultValue = "" + EventService.DEFAULT_PAGE_SIZE) int size,
+            @RequestParam(required = false) @DateTimeFormat(iso = DateTimeFormat.ISO.DATE_TIME) LocalDateTime from,
+            @RequestParam(required = false) @DateTimeFormat(iso = DateTimeFormat.ISO.DATE_TIME) LocalDateTime to,
+            @RequestParam(required = false) String venue) {
+        EventPageDto page = eventService.getEvents(cursor, size, from, to, venue);
+        return ResponseEntity.ok(page);
+    }
+
+    @GetMapping("/search")
+    public ResponseEntity<List<EventSummaryDto>> searchEvents(
+            @RequestParam("q") String query,
+            @RequestParam(defaultValue = "" + EventService.DEFAULT_PAGE_SIZE) int size,
+            @RequestParam(required = false) @DateTimeFormat(iso = DateTimeFormat.ISO.DATE_TIME) LocalDateTime from,
+            @RequestParam(required = false) @DateTimeFormat(iso = DateTimeFormat.ISO.DATE_TIME) LocalDateTime to) {
+        return ResponseEntity.ok(eventService.searchEvents(query, from, to, size));
     }
 
     @GetMapping("/{eventId}")
@@ -54,4 +78,27 @@ public class EventController {
         Event event = eventService.getEventById(eventId);
         return ResponseEntity.ok(event);
     }
+
+    @GetMapping(path = "/seats/stream", produces = MediaType.TEXT_EVENT_STREAM_VALUE)
+    public SseEmitter streamSeatChanges(
+            @RequestParam(required = false) Long since,
+            @RequestHeader(value = "Last-Event-ID", required = false) Long lastEventId) {
+        return seatChangeStream.subscribe(since != null ? since : lastEventId);
+    }
+
+    @PostMapping("/seats/reserve")
+    public ResponseEntity<SeatReservationResultDto> reserveSeats(
+            @Valid @RequestBody SeatReservationRequestDto request,
+            @RequestHeader("Authorization") String authToken) {
+        SeatReservationResultDto result = eventService.reserveSeats(request.getReservations(), authToken);
+        return ResponseEntity.status(result.isSuccess() ? HttpStatus.OK : HttpStatus.CONFLICT).body(result);
+    }
+
+    @PostMapping("/seats/release")
+    public ResponseEntity<SeatReservationResultDto> releaseSeats(
+            @Valid @RequestBody SeatReservationRequestDto request,
+            @RequestHeader("Authorization") String authToken) {
+        SeatReservationResultDto result = eventService.releaseSeats(request.getReservations(), authToken);
+        return ResponseEntity.status(result.isSuccess() ? HttpStatus.OK : HttpStatus.CONFLICT).body(result);
+    }
 }
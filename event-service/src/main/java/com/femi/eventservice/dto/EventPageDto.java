@@ -0,0 +1,19 @@
+package com.femi.eventservice.dto;
+
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.util.List;
+
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+@Builder
+public class EventPageDto {
+
+    private List<EventSummaryDto> events;
+    private String nextCursor;
+    private boolean hasMore;
+}
@@ -0,0 +1,26 @@
+package com.femi.eventservice.dto;
+
+import com.femi.eventservice.model.EventStatus;
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.math.BigDecimal;
+import java.time.LocalDateTime;
+
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+@Builder
+public class EventSummaryDto {
+
+    private Long id;
+    private String name;
+    private String venue;
+    private LocalDateTime eventDateTime;
+    private int totalSeats;
+    private int availableSeats;
+    private BigDecimal ticketPrice;
+    private EventStatus status;
+}
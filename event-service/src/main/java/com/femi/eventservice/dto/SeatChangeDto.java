@@ -0,0 +1,30 @@
+package com.femi.eventservice.dto;
+
+import com.femi.eventservice.model.EventStatus;
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.time.LocalDateTime;
+
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+@Builder
+public class SeatChangeDto {
+
+    private long version;
+    private Long eventId;
+    private int totalSeats;
+    private int availableSeats;
+    private EventStatus status;
+    private String name;
+    private String venue;
+    private LocalDateTime eventDateTime;
+
+    public static SeatChangeDto of(long version, EventSummaryDto event) {
+        return new SeatChangeDto(version, event.getId(), event.getTotalSeats(), event.getAvailableSeats(), event.getStatus(),
+                event.getName(), event.getVenue(), event.getEventDateTime());
+    }
+}
@@ -0,0 +1,19 @@
+package com.femi.eventservice.dto;
+
+import jakarta.validation.constraints.Min;
+import jakarta.validation.constraints.NotNull;
+import lombok.AllArgsConstructor;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+public class SeatReservationDto {
+
+    @NotNull(message = "Event id is required")
+    private Long eventId;
+
+    @Min(value = 1, message = "At least one seat must be requested")
+    private int seats;
+}
@@ -0,0 +1,18 @@
+package com.femi.eventservice.dto;
+
+import jakarta.validation.Valid;
+import jakarta.validation.constraints.NotEmpty;
+import lombok.AllArgsConstructor;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.util.List;
+
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+public class SeatReservationRequestDto {
+
+    @NotEmpty(message = "At least one reservation is required")
+    private List<@Valid SeatReservationDto> reservations;
+}
@@ -0,0 +1,17 @@
+package com.femi.eventservice.dto;
+
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+@Builder
+public class SeatReservationResultDto {
+
+    private boolean success;
+    private Long failedEventId;
+    private String message;
+}
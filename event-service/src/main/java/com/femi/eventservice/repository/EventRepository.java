@@ -1,14 +1,55 @@
 package com.femi.eventservice.repository;
 
+import com.femi.eventservice.dto.EventSummaryDto;
 import com.femi.eventservice.model.Event;
 import com.femi.eventservice.model.EventStatus;
+import org.springframework.data.domain.Pageable;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
 
+import java.time.LocalDateTime;
+import java.util.Collection;
 import java.util.List;
 import java.util.Optional;
 
 public interface EventRepository extends JpaRepository<Event, Long> {
     List<Event> findByStatus(EventStatus status);
     List<Event> findByOrganizerId(Long organizerId);
-    List<Event> findByVenueContainingIgnoreCase(String venue);
+    @Query("SELECT new com.femi.eventservice.dto.EventSummaryDto(e.id, e.name, e.venue, e.eventDateTime, e.totalSeats, e.availableSeats, e.ticketPrice, e.status) " +
+            "FROM Event e WHERE e.id IN :ids")
+    List<EventSummaryDto> findSummariesByIdIn(@Param("ids") Collection<Long> ids);
+    @Query("SELECT new com.femi.eventservice.dto.EventSummaryDto(e.id, e.name, e.venue, e.eventDateTime, e.totalSeats, e.availableSeats, e.ticketPrice, e.status) " +
+            "FROM Event e WHERE e.status <> :status")
+    List<EventSummaryDto> findSummariesByStatusNot(@Param("status") EventStatus status);
+    @Query("SELECT e.id FROM Event e WHERE e.updatedAt >= :since")
+    List<Long> findIdsUpdatedSince(@Param("since") LocalDateTime since);
+    @Query("SELECT new com.femi.eventservice.dto.EventSummaryDto(e.id, e.name, e.venue, e.eventDateTime, e.totalSeats, e.availableSeats, e.ticketPrice, e.status) " +
+            "FROM Event e WHERE e.status = :status " +
+            "AND (:from IS NULL OR e.eventDateTime >= :from) " +
+            "AND (:to IS NULL OR e.eventDateTime < :to) " +
+            "AND (:venue IS NULL OR e.venue = :venue) " +
+            "AND (:afterTime IS NULL OR (e.eventDateTime >= :afterTime AND (e.eventDateTime > :afterTime OR e.id > :afterId))) " +
+            "ORDER BY e.eventDateTime, e.id")
+    List<EventSummaryDto> findPage(@Param("status") EventStatus status,
+                                   @Param("from") LocalDateTime from,
+                                   @Param("to") LocalDateTime to,
+                                   @Param("venue") String venue,
+                                   @Param("afterTime") LocalDateTime afterTime,
+                                   @Param("afterId") Long afterId,
+                                   Pageable pageable);
+    // status is assigned first: MySQL evaluates SET clauses left to right against updated values
+    @Modifying(clearAutomatically = true)
+    @Query("UPDATE Event e SET " +
+            "e.status = CASE WHEN e.availableSeats = :seats THEN com.femi.eventservice.model.EventStatus.SOLD_OUT ELSE e.status END, " +
+            "e.availableSeats = e.availableSeats - :seats, e.updatedAt = :now " +
+            "WHERE e.id = :id AND e.status = com.femi.eventservice.model.EventStatus.ACTIVE AND e.availableSeats >= :seats")
+    int reserveSeats(@Param("id") Long id, @Param("seats") int seats, @Param("now") LocalDateTime now);
+    @Modifying(clearAutomatically = true)
+    @Query("UPDATE Event e SET " +
+            "e.status = CASE WHEN e.status = com.femi.eventservice.model.EventStatus.SOLD_OUT THEN com.femi.eventservice.model.EventStatus.ACTIVE ELSE e.status END, " +
+            "e.availableSeats = e.availableSeats + :seats, e.updatedAt = :now " +
+            "WHERE e.id = :id AND e.availableSeats + :seats <= e.totalSeats")
+    int releaseSeats(@Param("id") Long id, @Param("seats") int seats, @Param("now") LocalDateTime now);
 }
@@ -0,0 +1,186 @@
+package com.femi.eventservice.search;
+
+import com.femi.eventservice.model.Event;
+import com.femi.eventservice.model.EventStatus;
+import com.femi.eventservice.repository.EventRepository;
+import jakarta.annotation.PostConstruct;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.stereotype.Component;
+
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.NavigableMap;
+import java.util.Set;
+import java.util.TreeMap;
+import java.util.concurrent.locks.ReadWriteLock;
+import java.util.concurrent.locks.ReentrantReadWriteLock;
+
+@Component
+@RequiredArgsConstructor
+@Slf4j
+public class EventSearchIndex {
+
+    static final int NAME_WEIGHT = 3;
+    static final int VENUE_WEIGHT = 2;
+    static final int DESCRIPTION_WEIGHT = 1;
+
+    private final EventRepository eventRepository;
+
+    private final ReadWriteLock lock = new ReentrantReadWriteLock();
+    private final NavigableMap<String, Map<Long, Integer>> postings = new TreeMap<>();
+    private final Map<Long, Document> documents = new HashMap<>();
+
+    @PostConstruct
+    public void rebuild() {
+        List<Event> events = eventRepository.findAll();
+        lock.writeLock().lock();
+        try {
+            postings.clear();
+            documents.clear();
+            events.forEach(this::index);
+        } finally {
+            lock.writeLock().unlock();
+        }
+        log.info("Indexed {} events for search", documents.size());
+    }
+
+    public void put(Event event) {
+        lock.writeLock().lock();
+        try {
+            unindex(event.getId());
+            index(event);
+        } finally {
+            lock.writeLock().unlock();
+        }
+    }
+
+    // Re-reads events changed by any instance; SeatChangePoller calls this with each scan
+    public void refresh(Collection<Long> eventIds) {
+        List<Event> events = eventRepository.findAllById(eventIds);
+        lock.writeLock().lock();
+        try {
+            for (Event event : events) {
+                unindex(event.getId());
+                index(event);
+            }
+        } finally {
+            lock.writeLock().unlock();
+        }
+    }
+
+    public void remove(Long eventId) {
+        lock.writeLock().lock();
+        try {
+            unindex(eventId);
+        } finally {
+            lock.writeLock().unlock();
+        }
+    }
+
+    public List<Long> search(String query, LocalDateTime from, LocalDateTime to, int limit) {
+        List<String> tokens = List.copyOf(tokenize(query));
+        if (tokens.isEmpty() || limit < 1) {
+            return List.of();
+        }
+
+        Map<Long, Integer> scores;
+        lock.readLock().lock();
+        try {
+            scores = match(tokens.get(0));
+            for (int i = 1; i < tokens.size() && !scores.isEmpty(); i++) {
+                Map<Long, Integer> next = match(tokens.get(i));
+                scores.keySet().retainAll(next.keySet());
+                scores.replaceAll((id, score) -> score + next.get(id));
+            }
+
+            List<Hit> hits = new ArrayList<>(scores.size());
+            scores.forEach((id, score) -> {
+                LocalDateTime when = documents.get(id).eventDateTime();
+                if ((from == null || !when.isBefore(from)) && (to == null || when.isBefore(to))) {
+                    hits.add(new Hit(id, score, when));
+                }
+            });
+            return hits.stream()
+                    .sorted(Comparator.comparingInt(Hit::score).reversed()
+                            .thenComparing(Hit::eventDateTime)
+                            .thenComparing(Hit::id))
+                    .limit(limit)
+                    .map(Hit::id)
+                    .toList();
+        } finally {
+            lock.readLock().unlock();
+        }
+    }
+
+    public int size() {
+        lock.readLock().lock();
+        try {
+            return documents.size();
+        } finally {
+            lock.readLock().unlock();
+        }
+    }
+
+    private Map<Long, Integer> match(String prefix) {
+        Map<Long, Integer> best = new HashMap<>();
+        for (Map.Entry<String, Map<Long, Integer>> term : postings.subMap(prefix, true, prefix + Character.MAX_VALUE, false).entrySet()) {
+            int boost = term.getKey().equals(prefix) ? 2 : 1;
+            term.getValue().forEach((id, weight) -> best.merge(id, weight * boost, Math::max));
+        }
+        return best;
+    }
+
+    private void index(Event event) {
+        if (event.getId() == null || event.getStatus() == EventStatus.CANCELLED) {
+            return;
+        }
+        Map<String, Integer> terms = new HashMap<>();
+        tokenize(event.getDescription()).forEach(term -> terms.merge(term, DESCRIPTION_WEIGHT, Math::max));
+        tokenize(event.getVenue()).forEach(term -> terms.merge(term, VENUE_WEIGHT, Math::max));
+        tokenize(event.getName()).forEach(term -> terms.merge(term, NAME_WEIGHT, Math::max));
+
+        terms.forEach((term, weight) -> postings.computeIfAbsent(term, key -> new HashMap<>()).put(event.getId(), weight));
+        documents.put(event.getId(), new Document(terms.keySet(), event.getEventDateTime()));
+    }
+
+    private void unindex(Long eventId) {
+        Document document = documents.remove(eventId);
+        if (document == null) {
+            return;
+        }
+        for (String term : document.terms()) {
+            Map<Long, Integer> ids = postings.get(term);
+            ids.remove(eventId);
+            if (ids.isEmpty()) {
+                postings.remove(term);
+            }
+        }
+    }
+
+    static Set<String> tokenize(String text) {
+        Set<String> tokens = new LinkedHashSet<>();
+        if (text == null) {
+            return tokens;
+        }
+        for (String token : text.toLowerCase(Locale.ROOT).split("[^\\p{L}\\p{N}]+")) {
+            if (!token.isEmpty()) {
+                tokens.add(token);
+            }
+        }
+        return tokens;
+    }
+
+    private record Document(Set<String> terms, LocalDateTime eventDateTime) {
+    }
+
+    private record Hit(Long id, int score, LocalDateTime eventDateTime) {
+    }
+}
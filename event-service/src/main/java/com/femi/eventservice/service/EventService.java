@@ -1,36 +1,70 @@
 package com.femi.eventservice.service;
 
-import com.femi.eventservice.client.UserServiceClient;
-import com.femi.eventservice.dto.ApiResponseData;
+import com.femi.eventservice.config.CacheConfig;
+import com.femi.eventservice.config.JwtVerifier;
 import com.femi.eventservice.dto.CreateEventDto;
+import com.femi.eventservice.dto.EventPageDto;
+import com.femi.eventservice.dto.EventSummaryDto;
+import com.femi.eventservice.dto.SeatReservationDto;
+import com.femi.eventservice.dto.SeatReservationResultDto;
 import com.femi.eventservice.dto.Role;
 import com.femi.eventservice.dto.UserDto;
-import com.femi.eventservice.exceptions.UnauthorizedException;
+import com.femi.eventservice.exceptions.EventNotFoundException;
+import com.femi.eventservice.exceptions.InvalidCursorException;
+import com.femi.common.exceptions.UnauthorizedException;
 import com.femi.eventservice.exceptions.UserNotFoundException;
 import com.femi.eventservice.model.Event;
 import com.femi.eventservice.model.EventStatus;
 import com.femi.eventservice.repository.EventRepository;
+import com.femi.eventservice.search.EventSearchIndex;
+import com.femi.eventservice.stream.SeatChangeLog;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
+import org.springframework.cache.CacheManager;
+import org.springframework.cache.annotation.CacheEvict;
+import org.springframework.cache.annotation.Cacheable;
+import org.springframework.cache.annotation.Caching;
+import org.springframework.dao.ConcurrencyFailureException;
+import org.springframework.data.domain.PageRequest;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
+import org.springframework.transaction.interceptor.TransactionAspectSupport;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
 
+import java.nio.charset.StandardCharsets;
+import java.time.LocalDateTime;
+import java.util.Base64;
 import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.TreeMap;
+import java.util.function.Function;
+import java.util.stream.Collectors;
 
 @Service
 @RequiredArgsConstructor
 @Slf4j
 public class EventService {
 
+    public static final int DEFAULT_PAGE_SIZE = 20;
+    public static final int MAX_PAGE_SIZE = 100;
+
     private final EventRepository eventRepository;
-    private final UserServiceClient userServiceClient;
+    private final JwtVerifier jwtVerifier;
+    private final CacheManager cacheManager;
+    private final EventSearchIndex eventSearchIndex;
+    private final SeatChangeLog seatChangeLog;
+    private final MeterRegistry meterRegistry;
 
 
     @Transactional
+    @CacheEvict(cacheNames = CacheConfig.ACTIVE_EVENTS, allEntries = true)
     public Event createEvent(CreateEventDto createEventDto, String authToken) {
-        ApiResponseData<UserDto> response = userServiceClient.validateToken(authToken);
-        UserDto user = response.getData();
-        if(user==null){
+        UserDto user = jwtVerifier.verify(authToken);
+        if(user.getId()==null){
             throw new UserNotFoundException("User not found or Invalid token");
         }
 
@@ -51,16 +85,69 @@ public class EventService {
                 .organizerName(user.getUsername())
                 .organizerEmail(user.getEmail())
                 .build();
-        return eventRepository.save(event);
+        Event saved = eventRepository.save(event);
+        afterCommit(() -> {
+            eventSearchIndex.put(saved);
+            seatChangeLog.publish(List.of(saved.getId()));
+        });
+        return saved;
+    }
+
+    @Cacheable(cacheNames = CacheConfig.ACTIVE_EVENTS)
+    public EventPageDto getEvents(String cursor, int size, LocalDateTime from, LocalDateTime to, String venue) {
+        int pageSize = Math.min(Math.max(size, 1), MAX_PAGE_SIZE);
+        LocalDateTime afterTime = null;
+        Long afterId = null;
+        if (cursor != null && !cursor.isBlank()) {
+            try {
+                String[] parts = new String(Base64.getUrlDecoder().decode(cursor), StandardCharsets.UTF_8).split("\\|");
+                afterTime = LocalDateTime.parse(parts[0]);
+                afterId = Long.parseLong(parts[1]);
+            } catch (RuntimeException e) {
+                throw new InvalidCursorException("Invalid page cursor");
+            }
+        }
+
+        List<EventSummaryDto> rows = eventRepository.findPage(EventStatus.ACTIVE, from, to,
+                venue == null || venue.isBlank() ? null : venue.trim(), afterTime, afterId, PageRequest.of(0, pageSize + 1));
+
+        boolean hasMore = rows.size() > pageSize;
+        List<EventSummaryDto> events = hasMore ? List.copyOf(rows.subList(0, pageSize)) : rows;
+        String nextCursor = null;
+        if (hasMore) {
+            EventSummaryDto last = events.get(events.size() - 1);
+            nextCursor = Base64.getUrlEncoder().withoutPadding()
+                    .encodeToString((last.getEventDateTime() + "|" + last.getId()).getBytes(StandardCharsets.UTF_8));
+        }
+
+        return EventPageDto.builder()
+                .events(events)
+                .nextCursor(nextCursor)
+                .hasMore(hasMore)
+                .build();
     }
 
-    public List<Event> getAllEvents() {
-        return eventRepository.findByStatus(EventStatus.ACTIVE);
+    public List<EventSummaryDto> searchEvents(String query, LocalDateTime from, LocalDateTime to, int size) {
+        int limit = Math.min(Math.max(size, 1), MAX_PAGE_SIZE);
+        List<Long> ids = eventSearchIndex.search(query, from, to, limit);
+        if (ids.isEmpty()) {
+            return List.of();
+        }
+
+        // The index only ranks; seat counts and status come from the rows themselves.
+        Map<Long, EventSummaryDto> rows = eventRepository.findSummariesByIdIn(ids).stream()
+                .collect(Collectors.toMap(EventSummaryDto::getId, Function.identity()));
+        return ids.stream()
+                .map(rows::get)
+                .filter(Objects::nonNull)
+                .filter(row -> row.getStatus() != EventStatus.CANCELLED)
+                .toList();
     }
 
+    @Cacheable(cacheNames = CacheConfig.EVENTS, key = "#eventId")
     public Event getEventById(Long eventId) {
         return eventRepository.findById(eventId)
-                .orElseThrow(() -> new RuntimeException("Event not found"));
+                .orElseThrow(() -> new EventNotFoundException("Event not found"));
     }
 
     public List<Event> getEventsByOrganizer(Long organizerId) {
@@ -68,9 +155,12 @@ public class EventService {
     }
 
     @Transactional
+    @Caching(evict = {
+            @CacheEvict(cacheNames = CacheConfig.EVENTS, key = "#eventId"),
+            @CacheEvict(cacheNames = CacheConfig.ACTIVE_EVENTS, allEntries = true)
+    })
     public Event updateEvent(Long eventId, CreateEventDto updateDto, String authToken) {
-        ApiResponseData<UserDto> response = userServiceClient.validateToken(authToken);
-        UserDto user = response.getData();
+        UserDto user = jwtVerifier.verify(authToken);
 
         if (user.getRole() == null || !Role.ADMIN.equals(user.getRole())) {
             throw new UnauthorizedException("Only administrators can create events");
@@ -87,13 +177,21 @@ public class EventService {
         event.setEventDateTime(updateDto.getEventDateTime());
         event.setTicketPrice(updateDto.getTicketPrice());
 
-        return eventRepository.save(event);
+        Event saved = eventRepository.save(event);
+        afterCommit(() -> {
+            eventSearchIndex.put(saved);
+            seatChangeLog.publish(List.of(eventId));
+        });
+        return saved;
     }
 
     @Transactional
+    @Caching(evict = {
+            @CacheEvict(cacheNames = CacheConfig.EVENTS, key = "#eventId"),
+            @CacheEvict(cacheNames = CacheConfig.ACTIVE_EVENTS, allEntries = true)
+    })
     public void cancelEvent(Long eventId, String authToken) {
-        ApiResponseData<UserDto> response = userServiceClient.validateToken(authToken);
-        UserDto user = response.getData();
+        UserDto user = jwtVerifier.verify(authToken);
 
         if (user.getRole() == null || !Role.ADMIN.equals(user.getRole())) {
             throw new UnauthorizedException("Only administrators can create events");
@@ -107,6 +205,99 @@ public class EventService {
 
         event.setStatus(EventStatus.CANCELLED);
         eventRepository.save(event);
+        afterCommit(() -> {
+            eventSearchIndex.remove(eventId);
+            seatChangeLog.publish(List.of(eventId));
+        });
+    }
+
+    @Transactional
+    public SeatReservationResultDto reserveSeats(List<SeatReservationDto> reservations, String authToken) {
+        requireSeatManager(authToken);
+        return applySeatChanges(reservations, true);
+    }
+
+    @Transactional
+    public SeatReservationResultDto releaseSeats(List<SeatReservationDto> reservations, String authToken) {
+        requireSeatManager(authToken);
+        return applySeatChanges(reservations, false);
     }
-}
 
+    // Reserving takes seats off sale and releasing puts them back, so neither is open to end users.
+    private void requireSeatManager(String authToken) {
+        UserDto user = jwtVerifier.verify(authToken);
+        if (user.getRole() == null || !Role.ADMIN.equals(user.getRole())) {
+            throw new UnauthorizedException("Only administrators can reserve or release seats");
+        }
+    }
+
+    private SeatReservationResultDto applySeatChanges(List<SeatReservationDto> reservations, boolean reserve) {
+        // Merged and ordered by event id so concurrent batches take row locks in the same order.
+        Map<Long, Integer> seatsByEvent = new TreeMap<>();
+        for (SeatReservationDto reservation : reservations) {
+            if (reservation.getEventId() == null || reservation.getSeats() < 1) {
+                return SeatReservationResultDto.builder()
+                        .success(false)
+                        .failedEventId(reservation.getEventId())
+                        .message("Invalid seat reservation")
+                        .build();
+            }
+            seatsByEvent.merge(reservation.getEventId(), reservation.getSeats(), Integer::sum);
+        }
+
+        LocalDateTime now = LocalDateTime.now();
+        for (Map.Entry<Long, Integer> entry : seatsByEvent.entrySet()) {
+            int updated = changeSeats(entry.getKey(), entry.getValue(), now, reserve);
+            if (updated == 0) {
+                TransactionAspectSupport.currentTransactionStatus().setRollbackOnly();
+                return SeatReservationResultDto.builder()
+                        .success(false)
+                        .failedEventId(entry.getKey())
+                        .message(reserve ? "Not enough seats available" : "Cannot release more seats than the event has")
+                        .build();
+            }
+        }
+
+        seatsByEvent.keySet().forEach(cacheManager.getCache(CacheConfig.EVENTS)::evict);
+        cacheManager.getCache(CacheConfig.ACTIVE_EVENTS).clear();
+        afterCommit(() -> seatChangeLog.publish(seatsByEvent.keySet()));
+
+        return SeatReservationResultDto.builder()
+                .success(true)
+                .message(reserve ? "Seats reserved" : "Seats released")
+                .build();
+    }
+
+    // Timed per event row, so lock waits on a popular event show up in the latency and a
+    // lock timeout or deadlock is counted as contention rather than as a sold-out event.
+    private int changeSeats(Long eventId, int seats, LocalDateTime now, boolean reserve) {
+        Timer.Sample sample = Timer.start(meterRegistry);
+        String outcome = "error";
+        try {
+            int updated = reserve
+                    ? eventRepository.reserveSeats(eventId, seats, now)
+                    : eventRepository.releaseSeats(eventId, seats, now);
+            outcome = updated > 0 ? "success" : reserve ? "sold_out" : "rejected";
+            return updated;
+        } catch (ConcurrencyFailureException e) {
+            outcome = "contention";
+            throw e;
+        } finally {
+            sample.stop(Timer.builder("seat.reservations")
+                    .description("Seat reservation and release updates, one per event row")
+                    .tag("operation", reserve ? "reserve" : "release")
+                    .tag("outcome", outcome)
+                    .publishPercentileHistogram()
+                    .register(meterRegistry));
+        }
+    }
+
+    private static void afterCommit(Runnable action) {
+        TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+            @Override
+            public void afterCommit() {
+                action.run();
+            }
+        });
+    }
+}
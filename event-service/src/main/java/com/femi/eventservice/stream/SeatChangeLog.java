@@ -0,0 +1,145 @@
+package com.femi.eventservice.stream;
+
+import com.femi.eventservice.dto.EventSummaryDto;
+import com.femi.eventservice.dto.SeatChangeDto;
+import com.femi.eventservice.model.EventStatus;
+import com.femi.eventservice.repository.EventRepository;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.locks.Condition;
+import java.util.concurrent.locks.ReentrantLock;
+
+@Component
+public class SeatChangeLog {
+
+    static final int SEQUENCE_BITS = 37;
+    private static final int EPOCH_LIMIT = 1 << 15;
+    private static final int STRIPES = 64;
+
+    private final EventRepository eventRepository;
+    private final SeatChangeDto[] ring;
+    private final ReentrantLock[] eventLocks = new ReentrantLock[STRIPES];
+    private final Map<Long, EventSummaryDto> lastPublished = new ConcurrentHashMap<>();
+    private final ReentrantLock lock = new ReentrantLock();
+    private final Condition appended = lock.newCondition();
+    private final long epoch;
+    private long head;
+
+    @Autowired
+    public SeatChangeLog(EventRepository eventRepository,
+                         @Value("${event.seat-stream.buffer-size:10000}") int bufferSize) {
+        this(eventRepository, bufferSize, ThreadLocalRandom.current().nextInt(1, EPOCH_LIMIT));
+    }
+
+    SeatChangeLog(EventRepository eventRepository, int bufferSize, int epoch) {
+        this.eventRepository = eventRepository;
+        this.ring = new SeatChangeDto[bufferSize];
+        this.epoch = epoch;
+        // Below 2^53, so versions survive JSON clients that parse numbers as doubles
+        this.head = (long) epoch << SEQUENCE_BITS;
+        for (int i = 0; i < STRIPES; i++) {
+            eventLocks[i] = new ReentrantLock();
+        }
+    }
+
+    public void publish(Collection<Long> eventIds) {
+        int[] stripes = eventIds.stream().mapToInt(SeatChangeLog::stripe).distinct().sorted().toArray();
+        for (int stripe : stripes) {
+            eventLocks[stripe].lock();
+        }
+        try {
+            List<EventSummaryDto> events = eventRepository.findSummariesByIdIn(eventIds).stream()
+                    .filter(event -> !Objects.equals(lastPublished.put(event.getId(), event), event))
+                    .toList();
+            if (events.isEmpty()) {
+                return;
+            }
+            lock.lock();
+            try {
+                for (EventSummaryDto event : events) {
+                    head++;
+                    ring[slot(head)] = SeatChangeDto.of(head, event);
+                }
+                appended.signalAll();
+            } finally {
+                lock.unlock();
+            }
+        } finally {
+            for (int i = stripes.length - 1; i >= 0; i--) {
+                eventLocks[stripes[i]].unlock();
+            }
+        }
+    }
+
+    public long version() {
+        lock.lock();
+        try {
+            return head;
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    // null when the caller has to start over from a snapshot
+    public List<SeatChangeDto> since(long since, int max) {
+        lock.lock();
+        try {
+            if (since >>> SEQUENCE_BITS != epoch || since > head || head - since > ring.length) {
+                return null;
+            }
+            long last = Math.min(head, since + max);
+            List<SeatChangeDto> changes = new ArrayList<>((int) (last - since));
+            for (long version = since + 1; version <= last; version++) {
+                changes.add(ring[slot(version)]);
+            }
+            return changes;
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    public boolean awaitAfter(long since, long timeoutMs) throws InterruptedException {
+        lock.lock();
+        try {
+            long nanos = TimeUnit.MILLISECONDS.toNanos(timeoutMs);
+            while (head <= since) {
+                if (nanos <= 0) {
+                    return false;
+                }
+                nanos = appended.awaitNanos(nanos);
+            }
+            return true;
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    public Snapshot snapshot() {
+        long version = version();
+        List<SeatChangeDto> events = eventRepository.findSummariesByStatusNot(EventStatus.CANCELLED).stream()
+                .map(event -> SeatChangeDto.of(version, event))
+                .toList();
+        return new Snapshot(version, events);
+    }
+
+    private int slot(long version) {
+        return (int) Math.floorMod(version, (long) ring.length);
+    }
+
+    private static int stripe(Long eventId) {
+        return Math.floorMod(Long.hashCode(eventId), STRIPES);
+    }
+
+    public record Snapshot(long version, List<SeatChangeDto> events) {
+    }
+}
@@ -0,0 +1,76 @@
+package com.femi.eventservice.stream;
+
+import com.femi.eventservice.repository.EventRepository;
+import com.femi.eventservice.search.EventSearchIndex;
+import jakarta.annotation.PreDestroy;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.stereotype.Component;
+
+import java.time.LocalDateTime;
+import java.util.List;
+
+@Component
+@Slf4j
+public class SeatChangePoller {
+
+    private final EventRepository eventRepository;
+    private final SeatChangeLog seatChangeLog;
+    private final EventSearchIndex eventSearchIndex;
+    private final long intervalMs;
+    private final long lookbackMs;
+    private volatile boolean running = true;
+    private Thread worker;
+
+    public SeatChangePoller(EventRepository eventRepository,
+                            SeatChangeLog seatChangeLog,
+                            EventSearchIndex eventSearchIndex,
+                            @Value("${event.seat-stream.poll-interval-ms:1000}") long intervalMs,
+                            @Value("${event.seat-stream.poll-lookback-ms:10000}") long lookbackMs) {
+        this.eventRepository = eventRepository;
+        this.seatChangeLog = seatChangeLog;
+        this.eventSearchIndex = eventSearchIndex;
+        this.intervalMs = intervalMs;
+        this.lookbackMs = lookbackMs;
+    }
+
+    @EventListener(ApplicationReadyEvent.class)
+    public void start() {
+        if (intervalMs > 0) {
+            worker = Thread.ofVirtual().name("seat-change-poller").start(this::run);
+        }
+    }
+
+    @PreDestroy
+    void stop() {
+        running = false;
+        if (worker != null) {
+            worker.interrupt();
+        }
+    }
+
+    void poll() {
+        List<Long> eventIds = eventRepository.findIdsUpdatedSince(LocalDateTime.now().minusNanos(lookbackMs * 1_000_000));
+        if (!eventIds.isEmpty()) {
+            seatChangeLog.publish(eventIds);
+            eventSearchIndex.refresh(eventIds);
+        }
+    }
+
+    private void run() {
+        while (running) {
+            try {
+                poll();
+            } catch (Exception e) {
+                log.warn("Polling for event changes failed: {}", e.getMessage());
+            }
+            try {
+                Thread.sleep(intervalMs);
+            } catch (InterruptedException e) {
+                return;
+            }
+        }
+    }
+}
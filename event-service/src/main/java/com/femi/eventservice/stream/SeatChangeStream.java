@@ -0,0 +1,83 @@
+package com.femi.eventservice.stream;
+
+import com.femi.eventservice.dto.SeatChangeDto;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+import org.springframework.web.servlet.mvc.method.annotation.SseEmitter;
+
+import java.io.IOException;
+import java.util.List;
+import java.util.concurrent.atomic.AtomicBoolean;
+
+@Component
+@Slf4j
+public class SeatChangeStream {
+
+    static final String RESET = "reset";
+    static final String SEATS = "seats";
+    private static final int BATCH_SIZE = 500;
+
+    private final SeatChangeLog seatChangeLog;
+    private final long heartbeatMs;
+
+    public SeatChangeStream(SeatChangeLog seatChangeLog,
+                            @Value("${event.seat-stream.heartbeat-ms:15000}") long heartbeatMs) {
+        this.seatChangeLog = seatChangeLog;
+        this.heartbeatMs = heartbeatMs;
+    }
+
+    public SseEmitter subscribe(Long since) {
+        SseEmitter emitter = new SseEmitter(0L);
+        AtomicBoolean open = new AtomicBoolean(true);
+        emitter.onCompletion(() -> open.set(false));
+        emitter.onTimeout(() -> open.set(false));
+        emitter.onError(e -> open.set(false));
+        Thread.ofVirtual().name("seat-stream").start(() -> pump(emitter, since, open));
+        return emitter;
+    }
+
+    private void pump(SseEmitter emitter, Long since, AtomicBoolean open) {
+        try {
+            long cursor = since != null ? since : Long.MAX_VALUE;
+            while (open.get()) {
+                List<SeatChangeDto> changes = seatChangeLog.since(cursor, BATCH_SIZE);
+                if (changes == null) {
+                    cursor = sendSnapshot(emitter);
+                } else if (changes.isEmpty()) {
+                    if (!seatChangeLog.awaitAfter(cursor, heartbeatMs)) {
+                        emitter.send(SseEmitter.event().comment("heartbeat"));
+                    }
+                } else {
+                    for (SeatChangeDto change : changes) {
+                        send(emitter, change);
+                        cursor = change.getVersion();
+                    }
+                }
+            }
+        } catch (IOException | IllegalStateException e) {
+            log.debug("Seat change subscriber went away: {}", e.getMessage());
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        } finally {
+            try {
+                emitter.complete();
+            } catch (RuntimeException ignored) {
+                // already completed by the container
+            }
+        }
+    }
+
+    private long sendSnapshot(SseEmitter emitter) throws IOException {
+        SeatChangeLog.Snapshot snapshot = seatChangeLog.snapshot();
+        emitter.send(SseEmitter.event().id(Long.toString(snapshot.version())).name(RESET).data(snapshot.version()));
+        for (SeatChangeDto change : snapshot.events()) {
+            send(emitter, change);
+        }
+        return snapshot.version();
+    }
+
+    private static void send(SseEmitter emitter, SeatChangeDto change) throws IOException {
+        emitter.send(SseEmitter.event().id(Long.toString(change.getVersion())).name(SEATS).data(change));
+    }
+}
@@ -0,0 +1,113 @@
+package com.femi.eventservice.repository;
+
+import com.femi.eventservice.dto.EventSummaryDto;
+import com.femi.eventservice.model.Event;
+import com.femi.eventservice.model.EventStatus;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
+import org.springframework.data.domain.PageRequest;
+
+import java.math.BigDecimal;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+@DataJpaTest(properties = {
+        "spring.jpa.properties.hibernate.dialect=org.hibernate.dialect.H2Dialect",
+        "spring.jpa.hibernate.ddl-auto=create-drop",
+        "eureka.client.enabled=false"
+})
+class EventRepositoryTests {
+
+    private static final LocalDateTime BASE = LocalDateTime.of(2030, 1, 1, 20, 0);
+
+    @Autowired
+    private EventRepository eventRepository;
+
+    @BeforeEach
+    void setUp() {
+        eventRepository.deleteAll();
+        for (int i = 0; i < 7; i++) {
+            // Pairs of events share a start time to exercise the id tie-breaker.
+            eventRepository.save(event("Event " + i, "Venue " + i, BASE.plusDays(i / 2), EventStatus.ACTIVE));
+        }
+        eventRepository.save(event("Cancelled", "Venue X", BASE, EventStatus.CANCELLED));
+    }
+
+    @Test
+    void walksAllActiveEventsInKeysetOrder() {
+        List<EventSummaryDto> seen = new ArrayList<>();
+        LocalDateTime afterTime = null;
+        Long afterId = null;
+        while (true) {
+            List<EventSummaryDto> page = eventRepository.findPage(EventStatus.ACTIVE, null, null, null, afterTime, afterId, PageRequest.of(0, 3));
+            if (page.isEmpty()) {
+                break;
+            }
+            seen.addAll(page);
+            EventSummaryDto last = page.get(page.size() - 1);
+            afterTime = last.getEventDateTime();
+            afterId = last.getId();
+        }
+
+        assertEquals(7, seen.size());
+        assertEquals(7, seen.stream().map(EventSummaryDto::getId).distinct().count());
+        for (int i = 1; i < seen.size(); i++) {
+            EventSummaryDto prev = seen.get(i - 1);
+            EventSummaryDto current = seen.get(i);
+            assertTrue(prev.getEventDateTime().isBefore(current.getEventDateTime())
+                    || (prev.getEventDateTime().isEqual(current.getEventDateTime()) && prev.getId() < current.getId()));
+        }
+    }
+
+    @Test
+    void appliesDateRangeAndVenueFilters() {
+        List<EventSummaryDto> inRange = eventRepository.findPage(EventStatus.ACTIVE, BASE.plusDays(1), BASE.plusDays(2), null, null, null, PageRequest.of(0, 10));
+        List<EventSummaryDto> atVenue = eventRepository.findPage(EventStatus.ACTIVE, null, null, "Venue 3", null, null, PageRequest.of(0, 10));
+
+        assertEquals(List.of("Event 2", "Event 3"), inRange.stream().map(EventSummaryDto::getName).toList());
+        assertEquals(List.of("Event 3"), atVenue.stream().map(EventSummaryDto::getName).toList());
+    }
+
+    @Test
+    void reservesSeatsOnlyWhenEnoughRemainAndFlipsToSoldOut() {
+        Event event = eventRepository.save(event("Small", "Venue S", BASE, EventStatus.ACTIVE));
+        event.setTotalSeats(5);
+        event.setAvailableSeats(5);
+        eventRepository.saveAndFlush(event);
+
+        assertEquals(1, eventRepository.reserveSeats(event.getId(), 3, LocalDateTime.now()));
+        assertEquals(0, eventRepository.reserveSeats(event.getId(), 3, LocalDateTime.now()));
+        assertEquals(1, eventRepository.reserveSeats(event.getId(), 2, LocalDateTime.now()));
+
+        Event soldOut = eventRepository.findById(event.getId()).orElseThrow();
+        assertEquals(0, soldOut.getAvailableSeats());
+        assertEquals(EventStatus.SOLD_OUT, soldOut.getStatus());
+        assertEquals(0, eventRepository.reserveSeats(event.getId(), 1, LocalDateTime.now()));
+
+        assertEquals(1, eventRepository.releaseSeats(event.getId(), 2, LocalDateTime.now()));
+        assertEquals(0, eventRepository.releaseSeats(event.getId(), 4, LocalDateTime.now()));
+
+        Event reopened = eventRepository.findById(event.getId()).orElseThrow();
+        assertEquals(2, reopened.getAvailableSeats());
+        assertEquals(EventStatus.ACTIVE, reopened.getStatus());
+    }
+
+    private Event event(String name, String venue, LocalDateTime dateTime, EventStatus status) {
+        return Event.builder()
+                .name(name)
+                .description("Description of " + name)
+                .venue(venue)
+                .eventDateTime(dateTime)
+                .totalSeats(100)
+                .availableSeats(100)
+                .ticketPrice(new BigDecimal("10.00"))
+                .status(status)
+                .organizerId(1L)
+                .build();
+    }
+}
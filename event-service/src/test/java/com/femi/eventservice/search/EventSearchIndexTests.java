@@ -0,0 +1,90 @@
+package com.femi.eventservice.search;
+
+import com.femi.eventservice.model.Event;
+import com.femi.eventservice.model.EventStatus;
+import com.femi.eventservice.repository.EventRepository;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import java.time.LocalDateTime;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.when;
+
+class EventSearchIndexTests {
+
+    private static final LocalDateTime BASE = LocalDateTime.of(2030, 1, 1, 20, 0);
+
+    private EventSearchIndex index;
+
+    @BeforeEach
+    void setUp() {
+        EventRepository eventRepository = mock(EventRepository.class);
+        when(eventRepository.findAll()).thenReturn(List.of(
+                event(1L, "Jazz Night", "Blue Note", "Late sets from the house trio", BASE),
+                event(2L, "Rock Festival", "Jazzland Arena", "Three stages", BASE.plusDays(1)),
+                event(3L, "Poetry Slam", "Town Hall", "An evening of jazz poetry", BASE.plusDays(2)),
+                event(4L, "Jazz Brunch", "Riverside", "Cancelled for rain", BASE, EventStatus.CANCELLED)
+        ));
+        index = new EventSearchIndex(eventRepository);
+        index.rebuild();
+    }
+
+    @Test
+    void rebuildSkipsCancelledEvents() {
+        assertEquals(3, index.size());
+        assertEquals(List.of(), index.search("brunch", null, null, 10));
+    }
+
+    @Test
+    void ranksByFieldAndWholeTokenMatch() {
+        // exact name match first; a venue prefix and an exact description match tie and go by date
+        assertEquals(List.of(1L, 2L, 3L), index.search("jazz", null, null, 10));
+        assertEquals(List.of(1L), index.search("JAZZ", null, null, 1));
+    }
+
+    @Test
+    void everyTokenMustMatchAsAPrefix() {
+        assertEquals(List.of(3L), index.search("jaz poe", null, null, 10));
+        assertEquals(List.of(2L), index.search("rock, arena!", null, null, 10));
+        assertEquals(List.of(), index.search("jazz opera", null, null, 10));
+        assertEquals(List.of(), index.search("  ", null, null, 10));
+    }
+
+    @Test
+    void filtersByDateRange() {
+        assertEquals(List.of(2L, 3L), index.search("jazz", BASE.plusDays(1), null, 10));
+        assertEquals(List.of(1L), index.search("jazz", null, BASE.plusDays(1), 10));
+    }
+
+    @Test
+    void putReplacesAndRemoveDropsAnEvent() {
+        index.put(event(1L, "Blues Night", "Blue Note", "Late sets", BASE));
+        assertEquals(List.of(2L, 3L), index.search("jazz", null, null, 10));
+        assertEquals(List.of(1L), index.search("blues", null, null, 10));
+
+        index.remove(3L);
+        assertEquals(List.of(2L), index.search("jazz", null, null, 10));
+
+        index.put(event(2L, "Rock Festival", "Jazzland Arena", "Three stages", BASE, EventStatus.CANCELLED));
+        assertEquals(List.of(), index.search("jazz", null, null, 10));
+        assertEquals(1, index.size());
+    }
+
+    private static Event event(Long id, String name, String venue, String description, LocalDateTime when) {
+        return event(id, name, venue, description, when, EventStatus.ACTIVE);
+    }
+
+    private static Event event(Long id, String name, String venue, String description, LocalDateTime when, EventStatus status) {
+        return Event.builder()
+                .id(id)
+                .name(name)
+                .venue(venue)
+                .description(description)
+                .eventDateTime(when)
+                .status(status)
+                .build();
+    }
+}
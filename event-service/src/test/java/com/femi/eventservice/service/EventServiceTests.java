@@ -0,0 +1,48 @@
+package com.femi.eventservice.service;
+
+import com.femi.eventservice.config.JwtVerifier;
+import com.femi.eventservice.dto.Role;
+import com.femi.eventservice.dto.SeatReservationDto;
+import com.femi.eventservice.dto.UserDto;
+import com.femi.common.exceptions.UnauthorizedException;
+import com.femi.eventservice.exceptions.EventNotFoundException;
+import com.femi.eventservice.repository.EventRepository;
+import com.femi.eventservice.search.EventSearchIndex;
+import com.femi.eventservice.stream.SeatChangeLog;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.Test;
+import org.springframework.cache.CacheManager;
+
+import java.util.List;
+import java.util.Optional;
+
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.mockito.Mockito.*;
+
+class EventServiceTests {
+
+    private final EventRepository eventRepository = mock(EventRepository.class);
+    private final JwtVerifier jwtVerifier = mock(JwtVerifier.class);
+    private final EventService eventService = new EventService(eventRepository, jwtVerifier, mock(CacheManager.class),
+            mock(EventSearchIndex.class), mock(SeatChangeLog.class), new SimpleMeterRegistry());
+
+    @Test
+    void plainUsersCannotReserveOrReleaseSeats() {
+        UserDto user = new UserDto();
+        user.setId(3L);
+        user.setRole(Role.USER);
+        when(jwtVerifier.verify("Bearer user")).thenReturn(user);
+        List<SeatReservationDto> reservations = List.of(new SeatReservationDto(1L, 500));
+
+        assertThrows(UnauthorizedException.class, () -> eventService.reserveSeats(reservations, "Bearer user"));
+        assertThrows(UnauthorizedException.class, () -> eventService.releaseSeats(reservations, "Bearer user"));
+        verifyNoInteractions(eventRepository);
+    }
+
+    @Test
+    void missingEventsAreNotFound() {
+        when(eventRepository.findById(42L)).thenReturn(Optional.empty());
+
+        assertThrows(EventNotFoundException.class, () -> eventService.getEventById(42L));
+    }
+}
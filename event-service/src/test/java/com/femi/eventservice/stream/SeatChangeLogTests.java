@@ -0,0 +1,134 @@
+package com.femi.eventservice.stream;
+
+import com.femi.eventservice.dto.EventSummaryDto;
+import com.femi.eventservice.dto.SeatChangeDto;
+import com.femi.eventservice.model.EventStatus;
+import com.femi.eventservice.repository.EventRepository;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import java.util.Collection;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.TimeUnit;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.anyCollection;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.when;
+
+class SeatChangeLogTests {
+
+    private final Map<Long, EventSummaryDto> rows = new ConcurrentHashMap<>();
+    private EventRepository eventRepository;
+    private SeatChangeLog log;
+
+    @BeforeEach
+    void setUp() {
+        eventRepository = mock(EventRepository.class);
+        when(eventRepository.findSummariesByIdIn(anyCollection())).thenAnswer(invocation -> {
+            List<Long> ids = List.copyOf(invocation.<Collection<Long>>getArgument(0));
+            return ids.stream().map(rows::get).filter(Objects::nonNull).toList();
+        });
+        when(eventRepository.findSummariesByStatusNot(EventStatus.CANCELLED)).thenAnswer(invocation ->
+                rows.values().stream().filter(row -> row.getStatus() != EventStatus.CANCELLED).toList());
+        log = new SeatChangeLog(eventRepository, 4, 1);
+    }
+
+    @Test
+    void replaysChangesInVersionOrder() {
+        long start = log.version();
+        rows.put(1L, row(1L, 10, EventStatus.ACTIVE));
+        rows.put(2L, row(2L, 0, EventStatus.SOLD_OUT));
+        log.publish(List.of(1L, 2L));
+        rows.put(1L, row(1L, 7, EventStatus.ACTIVE));
+        log.publish(List.of(1L));
+
+        List<SeatChangeDto> changes = log.since(start, 10);
+        assertEquals(List.of(start + 1, start + 2, start + 3), changes.stream().map(SeatChangeDto::getVersion).toList());
+        assertEquals(7, changes.get(2).getAvailableSeats());
+        assertEquals(EventStatus.SOLD_OUT, changes.get(1).getStatus());
+
+        assertEquals(1, log.since(start, 1).size());
+        assertEquals(List.of(), log.since(start + 3, 10));
+    }
+
+    @Test
+    void asksForASnapshotWhenTheResumePointIsGoneOrUnknown() {
+        long start = log.version();
+        for (int i = 0; i < 5; i++) {
+            rows.put(1L, row(1L, 10 - i, EventStatus.ACTIVE));
+            log.publish(List.of(1L));
+        }
+
+        assertNull(log.since(start, 10));
+        assertEquals(4, log.since(start + 1, 10).size());
+        assertNull(log.since(log.version() + 1, 10));
+    }
+
+    @Test
+    void asksForASnapshotWhenTheResumePointCameFromAnotherInstance() {
+        SeatChangeLog other = new SeatChangeLog(eventRepository, 4, 2);
+        rows.put(1L, row(1L, 10, EventStatus.ACTIVE));
+        other.publish(List.of(1L));
+        log.publish(List.of(1L));
+
+        assertNull(log.since(other.version(), 10));
+        assertNull(log.since(other.version() - 1, 10));
+    }
+
+    @Test
+    void skipsStatesThatWereAlreadyPublished() {
+        long start = log.version();
+        rows.put(1L, row(1L, 10, EventStatus.ACTIVE));
+        log.publish(List.of(1L));
+        log.publish(List.of(1L));
+        rows.put(1L, row(1L, 9, EventStatus.ACTIVE));
+        log.publish(List.of(1L));
+
+        assertEquals(List.of(10, 9), log.since(start, 10).stream().map(SeatChangeDto::getAvailableSeats).toList());
+    }
+
+    @Test
+    void snapshotLeavesOutCancelledEvents() {
+        rows.put(1L, row(1L, 10, EventStatus.ACTIVE));
+        rows.put(2L, row(2L, 10, EventStatus.CANCELLED));
+        log.publish(List.of(1L, 2L));
+
+        SeatChangeLog.Snapshot snapshot = log.snapshot();
+
+        assertEquals(log.version(), snapshot.version());
+        assertEquals(List.of(1L), snapshot.events().stream().map(SeatChangeDto::getEventId).toList());
+    }
+
+    @Test
+    void awaitAfterWakesOnPublish() throws Exception {
+        long start = log.version();
+        assertFalse(log.awaitAfter(start, 10));
+
+        rows.put(1L, row(1L, 10, EventStatus.ACTIVE));
+        CompletableFuture<Boolean> woken = CompletableFuture.supplyAsync(() -> {
+            try {
+                return log.awaitAfter(start, 5_000);
+            } catch (InterruptedException e) {
+                throw new IllegalStateException(e);
+            }
+        });
+        Thread.sleep(50);
+        log.publish(List.of(1L));
+
+        assertTrue(woken.get(1, TimeUnit.SECONDS));
+    }
+
+    private static EventSummaryDto row(Long id, int availableSeats, EventStatus status) {
+        return EventSummaryDto.builder()
+                .id(id)
+                .totalSeats(10)
+                .availableSeats(availableSeats)
+                .status(status)
+                .build();
+    }
+}
@@ -0,0 +1,54 @@
+package com.femi.eventservice.stream;
+
+import com.femi.eventservice.model.Event;
+import com.femi.eventservice.model.EventStatus;
+import com.femi.eventservice.repository.EventRepository;
+import com.femi.eventservice.search.EventSearchIndex;
+import org.junit.jupiter.api.Test;
+
+import java.time.LocalDateTime;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.*;
+
+class SeatChangePollerTests {
+
+    private static final LocalDateTime WHEN = LocalDateTime.of(2030, 1, 1, 20, 0);
+
+    private final EventRepository eventRepository = mock(EventRepository.class);
+    private final SeatChangeLog seatChangeLog = mock(SeatChangeLog.class);
+    private final EventSearchIndex eventSearchIndex = new EventSearchIndex(eventRepository);
+    private final SeatChangePoller poller = new SeatChangePoller(eventRepository, seatChangeLog, eventSearchIndex, 0, 10_000);
+
+    @Test
+    void changesCommittedByAnotherInstanceReachTheSearchIndex() {
+        when(eventRepository.findAll()).thenReturn(List.of(
+                event(1L, "Jazz Night", EventStatus.ACTIVE),
+                event(2L, "Rock Festival", EventStatus.ACTIVE)));
+        eventSearchIndex.rebuild();
+
+        // Another instance renamed one event and cancelled the other
+        when(eventRepository.findIdsUpdatedSince(any())).thenReturn(List.of(1L, 2L));
+        when(eventRepository.findAllById(List.of(1L, 2L))).thenReturn(List.of(
+                event(1L, "Blues Night", EventStatus.ACTIVE),
+                event(2L, "Rock Festival", EventStatus.CANCELLED)));
+        poller.poll();
+
+        assertEquals(List.of(), eventSearchIndex.search("jazz", null, null, 10));
+        assertEquals(List.of(1L), eventSearchIndex.search("blues", null, null, 10));
+        assertEquals(List.of(), eventSearchIndex.search("rock", null, null, 10));
+        verify(seatChangeLog).publish(List.of(1L, 2L));
+    }
+
+    private static Event event(Long id, String name, EventStatus status) {
+        return Event.builder()
+                .id(id)
+                .name(name)
+                .venue("Blue Note")
+                .eventDateTime(WHEN)
+                .status(status)
+                .build();
+    }
+}
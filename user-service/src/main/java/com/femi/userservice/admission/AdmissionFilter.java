@@ -0,0 +1,95 @@
+package com.femi.userservice.admission;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.femi.common.admission.AdmissionControl;
+import com.femi.userservice.dto.ApiResponseData;
+import com.femi.common.exceptions.TooManyRequestsException;
+import io.github.resilience4j.bulkhead.Bulkhead;
+import jakarta.servlet.FilterChain;
+import jakarta.servlet.ServletException;
+import jakarta.servlet.http.HttpServletRequest;
+import jakarta.servlet.http.HttpServletResponse;
+import lombok.NonNull;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.core.Ordered;
+import org.springframework.core.annotation.Order;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.MediaType;
+import org.springframework.stereotype.Component;
+import org.springframework.web.filter.OncePerRequestFilter;
+
+import java.io.IOException;
+import java.time.LocalDateTime;
+
+@Component
+@Order(Ordered.HIGHEST_PRECEDENCE + 10)
+@RequiredArgsConstructor
+@Slf4j
+public class AdmissionFilter extends OncePerRequestFilter {
+
+    private final AdmissionControl admissionControl;
+    private final ObjectMapper objectMapper;
+
+    @Override
+    protected void doFilterInternal(
+            @NonNull HttpServletRequest request,
+            @NonNull HttpServletResponse response,
+            @NonNull FilterChain filterChain
+    ) throws ServletException, IOException {
+        Rule rule = match(request);
+        if (rule == null) {
+            filterChain.doFilter(request, response);
+            return;
+        }
+
+        if (rule.ipLimit() != null) {
+            try {
+                admissionControl.acquire(rule.ipLimit(), request.getRemoteAddr());
+            } catch (TooManyRequestsException e) {
+                log.warn("Rate limited {} {} from {}", request.getMethod(), request.getServletPath(), request.getRemoteAddr());
+                reject(response, HttpStatus.TOO_MANY_REQUESTS, e.getRetryAfterSeconds(), e.getMessage());
+                return;
+            }
+        }
+
+        Bulkhead bulkhead = admissionControl.bulkhead(rule.bulkhead());
+        if (!bulkhead.tryAcquirePermission()) {
+            log.warn("Shed {} {}: bulkhead {} is full", request.getMethod(), request.getServletPath(), rule.bulkhead());
+            reject(response, HttpStatus.SERVICE_UNAVAILABLE, 1, "Server is busy, try again shortly");
+            return;
+        }
+        try {
+            filterChain.doFilter(request, response);
+        } finally {
+            bulkhead.onComplete();
+        }
+    }
+
+    private Rule match(HttpServletRequest request) {
+        if (!"POST".equals(request.getMethod())) {
+            return null;
+        }
+        return switch (request.getServletPath()) {
+            case "/auth/login" -> new Rule("login-ip", "auth");
+            case "/auth/register" -> new Rule("register-ip", "auth");
+            case "/users/batch" -> new Rule(null, "user-batch");
+            default -> null;
+        };
+    }
+
+    private void reject(HttpServletResponse response, HttpStatus status, long retryAfterSeconds, String message) throws IOException {
+        response.setStatus(status.value());
+        response.setHeader(HttpHeaders.RETRY_AFTER, String.valueOf(retryAfterSeconds));
+        response.setContentType(MediaType.APPLICATION_JSON_VALUE);
+        objectMapper.writeValue(response.getOutputStream(), ApiResponseData.<Void>builder()
+                .success(false)
+                .message(message)
+                .timestamp(LocalDateTime.now())
+                .build());
+    }
+
+    private record Rule(String ipLimit, String bulkhead) {
+    }
+}
@@ -1,17 +1,30 @@
 package com.femi.userservice.config;
 
+import com.femi.userservice.model.User;
 import io.jsonwebtoken.Claims;
 import io.jsonwebtoken.ExpiredJwtException;
 import io.jsonwebtoken.Jwts;
-import io.jsonwebtoken.security.Keys;
+import io.jsonwebtoken.security.Jwks;
+import io.jsonwebtoken.security.RsaPublicJwk;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import jakarta.annotation.PostConstruct;
 import lombok.extern.slf4j.Slf4j;
 import org.springframework.beans.factory.annotation.Value;
 import org.springframework.security.core.GrantedAuthority;
 import org.springframework.security.core.userdetails.UserDetails;
 import org.springframework.stereotype.Service;
 
-import javax.crypto.SecretKey;
+import java.security.KeyFactory;
+import java.security.KeyPair;
+import java.security.KeyPairGenerator;
+import java.security.PrivateKey;
+import java.security.PublicKey;
+import java.security.interfaces.RSAPublicKey;
+import java.security.spec.PKCS8EncodedKeySpec;
+import java.security.spec.X509EncodedKeySpec;
 import java.util.*;
+import java.util.concurrent.TimeUnit;
 import java.util.function.Function;
 import java.util.stream.Collectors;
 
@@ -20,23 +33,70 @@ import java.util.stream.Collectors;
 @Slf4j
 public class JwtService {
 
-    @Value("${jwt.secret}")
-    private String secret;
+    @Value("${jwt.private-key:}")
+    private String encodedPrivateKey;
+
+    @Value("${jwt.public-key:}")
+    private String encodedPublicKey;
 
     @Value("${jwt.expiration}")
     private Long expiration;
 
+    private PrivateKey privateKey;
+    private PublicKey publicKey;
+    private RsaPublicJwk publicJwk;
+
+    private final MeterRegistry meterRegistry;
+    private final Timer signTimer;
+    private final Timer verifiedTimer;
+    private final Timer expiredTimer;
+    private final Timer rejectedTimer;
+
+    public JwtService(MeterRegistry meterRegistry) {
+        this.meterRegistry = meterRegistry;
+        this.signTimer = Timer.builder("jwt.sign")
+                .description("Time spent signing an access token")
+                .publishPercentileHistogram()
+                .register(meterRegistry);
+        this.verifiedTimer = verifyTimer("valid");
+        this.expiredTimer = verifyTimer("expired");
+        this.rejectedTimer = verifyTimer("invalid");
+    }
+
+    private Timer verifyTimer(String outcome) {
+        return Timer.builder("jwt.verify")
+                .description("Time spent parsing and verifying an access token")
+                .tag("outcome", outcome)
+                .publishPercentileHistogram()
+                .register(meterRegistry);
+    }
 
-    private SecretKey getSigningKey() {
+    @PostConstruct
+    void init() {
         try {
-            byte[] keyBytes = Base64.getDecoder().decode(secret);
-            return Keys.hmacShaKeyFor(keyBytes);
+            if (encodedPrivateKey.isBlank() || encodedPublicKey.isBlank()) {
+                log.warn("No JWT key pair configured, generating an ephemeral RSA key pair");
+                KeyPairGenerator generator = KeyPairGenerator.getInstance("RSA");
+                generator.initialize(2048);
+                KeyPair keyPair = generator.generateKeyPair();
+                privateKey = keyPair.getPrivate();
+                publicKey = keyPair.getPublic();
+            } else {
+                KeyFactory keyFactory = KeyFactory.getInstance("RSA");
+                privateKey = keyFactory.generatePrivate(new PKCS8EncodedKeySpec(Base64.getDecoder().decode(encodedPrivateKey)));
+                publicKey = keyFactory.generatePublic(new X509EncodedKeySpec(Base64.getDecoder().decode(encodedPublicKey)));
+            }
+            publicJwk = Jwks.builder().key((RSAPublicKey) publicKey).idFromThumbprint().build();
         } catch (Exception e) {
             log.error("Error creating signing key", e);
-            throw new RuntimeException("Invalid JWT secret configuration", e);
+            throw new RuntimeException("Invalid JWT key configuration", e);
         }
     }
 
+    public Map<String, Object> getJwks() {
+        return Map.of("keys", List.of(new LinkedHashMap<>(publicJwk)));
+    }
+
     public String generateToken(UserDetails userDetails) {
         Map<String, Object> extraClaims = new HashMap<>();
 
@@ -45,6 +105,13 @@ public class JwtService {
                 .map(GrantedAuthority::getAuthority)
                 .collect(Collectors.toList()));
 
+        if (userDetails instanceof User user) {
+            extraClaims.put("userId", user.getId());
+            extraClaims.put("username", user.getActualUsername());
+            extraClaims.put("email", user.getEmail());
+            extraClaims.put("role", user.getRole().name());
+        }
+
         return generateToken(extraClaims, userDetails);
     }
 
@@ -75,31 +142,40 @@ public class JwtService {
         return claimsResolver.apply(claims);
     }
 
-    public boolean isTokenValid(String token, UserDetails userDetails) {
-        final String username = extractUsername(token);
-        return (username.equals(userDetails.getUsername())) && !isTokenExpired(token);
+    public Claims extractValidClaims(String token) {
+        try {
+            return extractAllClaims(token);
+        } catch (Exception e) {
+            log.error("Error extracting claims from token", e);
+            return null;
+        }
     }
 
-    private boolean isTokenExpired(String token) {
-        return extractExpiration(token).before(new Date());
+    public boolean isTokenValid(String token, UserDetails userDetails) {
+        return isTokenValid(extractAllClaims(token), userDetails);
     }
 
-    private Date extractExpiration(String token) {
-        return extractClaim(token, Claims::getExpiration);
+    public boolean isTokenValid(Claims claims, UserDetails userDetails) {
+        return claims.getSubject().equals(userDetails.getUsername()) && !claims.getExpiration().before(new Date());
     }
 
     private Claims extractAllClaims(String token) {
+        long start = System.nanoTime();
         try {
-            return Jwts
+            Claims claims = Jwts
                     .parser()
-                    .verifyWith(getSigningKey())
+                    .verifyWith(publicKey)
                     .build()
                     .parseSignedClaims(token)
                     .getPayload();
+            verifiedTimer.record(System.nanoTime() - start, TimeUnit.NANOSECONDS);
+            return claims;
         } catch (ExpiredJwtException e) {
+            expiredTimer.record(System.nanoTime() - start, TimeUnit.NANOSECONDS);
             log.debug("Token expired: {}", e.getMessage());
             throw e;
         } catch (Exception e) {
+            rejectedTimer.record(System.nanoTime() - start, TimeUnit.NANOSECONDS);
             log.error("Error parsing JWT token", e);
             throw new RuntimeException("Invalid JWT token", e);
         }
@@ -110,13 +186,14 @@ public class JwtService {
             UserDetails userDetails,
             long expiration
     ) {
-        return Jwts
+        return signTimer.record(() -> Jwts
                 .builder()
+                .header().keyId(publicJwk.getId()).and()
                 .claims(extraClaims)
                 .subject(userDetails.getUsername())
                 .issuedAt(new Date(System.currentTimeMillis()))
                 .expiration(new Date(System.currentTimeMillis() + expiration))
-                .signWith(getSigningKey(), Jwts.SIG.HS256)
-                .compact();
+                .signWith(privateKey, Jwts.SIG.RS256)
+                .compact());
     }
 }
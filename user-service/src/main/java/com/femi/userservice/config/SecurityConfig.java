@@ -56,6 +56,7 @@ public class SecurityConfig {
 
                         .requestMatchers(HttpMethod.DELETE, "/users/**").hasRole("ADMIN")
                         .requestMatchers(HttpMethod.PUT, "/users/*/role").hasRole("ADMIN")
+                        .requestMatchers(HttpMethod.POST, "/users/batch").hasRole("ADMIN")
 
                         .requestMatchers("/users/profile").authenticated()
                         .requestMatchers("/users/**").authenticated()
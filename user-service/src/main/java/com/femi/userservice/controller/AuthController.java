@@ -1,5 +1,7 @@
 package com.femi.userservice.controller;
 
+import com.femi.common.admission.AdmissionControl;
+import com.femi.userservice.config.JwtService;
 import com.femi.userservice.dto.*;
 import com.femi.userservice.service.AuthService;
 import io.swagger.v3.oas.annotations.Operation;
@@ -7,6 +9,7 @@ import io.swagger.v3.oas.annotations.responses.ApiResponse;
 import io.swagger.v3.oas.annotations.responses.ApiResponses;
 import io.swagger.v3.oas.annotations.security.SecurityRequirement;
 import io.swagger.v3.oas.annotations.tags.Tag;
+import jakarta.servlet.http.HttpServletRequest;
 import jakarta.validation.Valid;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
@@ -17,6 +20,7 @@ import org.springframework.validation.annotation.Validated;
 import org.springframework.web.bind.annotation.*;
 
 import java.time.LocalDateTime;
+import java.util.Map;
 
 @RestController
 @RequestMapping("/auth")
@@ -27,18 +31,22 @@ import java.time.LocalDateTime;
 public class AuthController {
 
     private final AuthService authService;
+    private final JwtService jwtService;
+    private final AdmissionControl admissionControl;
 
     @PostMapping("/register")
     @Operation(summary = "Register a new user")
     @ApiResponses(value = {
             @ApiResponse(responseCode = "201", description = "User registered successfully"),
             @ApiResponse(responseCode = "400", description = "Invalid input or user already exists"),
+            @ApiResponse(responseCode = "429", description = "Too many attempts"),
             @ApiResponse(responseCode = "500", description = "Internal server error")
     })
     public ResponseEntity<ApiResponseData<AuthResponseDTO>> register(
-            @Valid @RequestBody RegisterRequestDTO request) {
+            @Valid @RequestBody RegisterRequestDTO request, HttpServletRequest httpRequest) {
 
         log.info("Registration request received for email: {}", request.getEmail());
+        admissionControl.acquire("account", accountKey(request.getEmail(), httpRequest));
 
         AuthResponseDTO response = authService.register(request);
 
@@ -56,12 +64,14 @@ public class AuthController {
     @ApiResponses(value = {
             @ApiResponse(responseCode = "200", description = "Login successful"),
             @ApiResponse(responseCode = "401", description = "Invalid credentials"),
+            @ApiResponse(responseCode = "429", description = "Too many attempts"),
             @ApiResponse(responseCode = "400", description = "Invalid input")
     })
     public ResponseEntity<ApiResponseData<AuthResponseDTO>> login(
-            @Valid @RequestBody LoginRequestDTO request) {
+            @Valid @RequestBody LoginRequestDTO request, HttpServletRequest httpRequest) {
 
         log.info("Login request received for email: {}", request.getEmail());
+        admissionControl.acquire("account", accountKey(request.getEmail(), httpRequest));
 
         AuthResponseDTO response = authService.login(request);
 
@@ -94,6 +104,15 @@ public class AuthController {
                 .timestamp(LocalDateTime.now())
                 .build());
     }
-}
 
+    @GetMapping("/jwks")
+    @Operation(summary = "Token signing keys", description = "Public JSON Web Key Set used by other services to verify tokens locally")
+    public ResponseEntity<Map<String, Object>> jwks() {
+        return ResponseEntity.ok(jwtService.getJwks());
+    }
 
+    // Keyed on the client as well, so failing logins for someone else's email can't lock them out
+    private static String accountKey(String email, HttpServletRequest request) {
+        return email.toLowerCase() + "|" + request.getRemoteAddr();
+    }
+}
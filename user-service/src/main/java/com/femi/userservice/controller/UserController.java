@@ -105,6 +105,21 @@ public class UserController {
                 .build());
     }
 
+    @PostMapping("/batch")
+    @Operation(summary = "Get users by IDs (Admin only)")
+    @PreAuthorize("hasRole('ADMIN')")
+    public ResponseEntity<ApiResponseData<List<UserDTO>>> getUsersByIds(@Valid @RequestBody UserBatchRequestDTO request) {
+
+        List<UserDTO> users = authService.getUsersByIds(request.getIds());
+
+        return ResponseEntity.ok(ApiResponseData.<List<UserDTO>>builder()
+                .success(true)
+                .message("Users retrieved successfully")
+                .data(users)
+                .timestamp(LocalDateTime.now())
+                .build());
+    }
+
     @DeleteMapping("/{id}")
     @Operation(summary = "Delete user (Admin only)")
     @PreAuthorize("hasRole('ADMIN')")
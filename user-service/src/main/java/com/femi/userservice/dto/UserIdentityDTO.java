@@ -0,0 +1,14 @@
+package com.femi.userservice.dto;
+
+import lombok.AllArgsConstructor;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+public class UserIdentityDTO {
+    private Long id;
+    private String email;
+    private String username;
+}
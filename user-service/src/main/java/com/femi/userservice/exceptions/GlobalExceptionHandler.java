@@ -1,8 +1,10 @@
 package com.femi.userservice.exceptions;
 
+import com.femi.common.exceptions.TooManyRequestsException;
 import com.femi.userservice.dto.ApiResponseData;
 import jakarta.persistence.EntityNotFoundException;
 import lombok.extern.slf4j.Slf4j;
+import org.springframework.http.HttpHeaders;
 import org.springframework.http.HttpStatus;
 import org.springframework.http.ResponseEntity;
 import org.springframework.security.access.AccessDeniedException;
@@ -46,6 +48,32 @@ public class GlobalExceptionHandler {
                         .build());
     }
 
+    @ExceptionHandler(PasswordHashingBusyException.class)
+    public ResponseEntity<ApiResponseData<Void>> handlePasswordHashingBusy(PasswordHashingBusyException ex) {
+        log.warn("Password hashing queue full: {}", ex.getMessage());
+
+        return ResponseEntity.status(HttpStatus.SERVICE_UNAVAILABLE)
+                .header(HttpHeaders.RETRY_AFTER, "1")
+                .body(ApiResponseData.<Void>builder()
+                        .success(false)
+                        .message(ex.getMessage())
+                        .timestamp(LocalDateTime.now())
+                        .build());
+    }
+
+    @ExceptionHandler(TooManyRequestsException.class)
+    public ResponseEntity<ApiResponseData<Void>> handleTooManyRequests(TooManyRequestsException ex) {
+        log.warn("Rate limited: {}", ex.getMessage());
+
+        return ResponseEntity.status(HttpStatus.TOO_MANY_REQUESTS)
+                .header(HttpHeaders.RETRY_AFTER, String.valueOf(ex.getRetryAfterSeconds()))
+                .body(ApiResponseData.<Void>builder()
+                        .success(false)
+                        .message(ex.getMessage())
+                        .timestamp(LocalDateTime.now())
+                        .build());
+    }
+
     @ExceptionHandler(UsernameNotFoundException.class)
     public ResponseEntity<ApiResponseData<Void>> handleUsernameNotFound(UsernameNotFoundException ex) {
         log.warn("User not found: {}", ex.getMessage());
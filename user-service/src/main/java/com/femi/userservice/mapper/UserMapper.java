@@ -0,0 +1,18 @@
+package com.femi.userservice.mapper;
+
+import com.femi.userservice.dto.UserDTO;
+import com.femi.userservice.model.User;
+import org.mapstruct.Mapper;
+import org.mapstruct.Mapping;
+
+import java.util.List;
+
+@Mapper(componentModel = "spring")
+public interface UserMapper {
+
+    // User.getUsername() is the login name (email) for Spring Security.
+    @Mapping(target = "username", source = "actualUsername")
+    UserDTO toDto(User user);
+
+    List<UserDTO> toDtos(List<User> users);
+}
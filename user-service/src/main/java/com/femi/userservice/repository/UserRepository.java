@@ -1,11 +1,16 @@
 package com.femi.userservice.repository;
 
+import com.femi.userservice.dto.UserIdentityDTO;
 import com.femi.userservice.model.Role;
 import com.femi.userservice.model.User;
+import org.springframework.data.domain.Pageable;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
 import org.springframework.data.jpa.repository.Query;
 import org.springframework.data.repository.query.Param;
+import org.springframework.transaction.annotation.Transactional;
 
+import java.util.Collection;
 import java.util.List;
 import java.util.Optional;
 
@@ -15,10 +20,25 @@ public interface UserRepository extends JpaRepository<User, String> {
 
     Optional<User> findByUsername(String username);
 
-    boolean existsByEmail(String email);
-
-    boolean existsByUsername(String username);
-
     @Query("SELECT u FROM User u WHERE u.role = :role")
     List<User> findByRole(@Param("role") Role role);
+
+    List<User> findByIdIn(Collection<Long> ids);
+
+    // One probe for both unique columns; a null argument skips that column.
+    @Query("SELECT new com.femi.userservice.dto.UserIdentityDTO(u.id, u.email, u.username) FROM User u " +
+            "WHERE (:email IS NOT NULL AND u.email = :email) OR (:username IS NOT NULL AND u.username = :username)")
+    List<UserIdentityDTO> findIdentityConflicts(@Param("email") String email, @Param("username") String username);
+
+    @Query("SELECT new com.femi.userservice.dto.UserIdentityDTO(u.id, u.email, u.username) FROM User u " +
+            "WHERE u.id > :afterId ORDER BY u.id")
+    List<UserIdentityDTO> findIdentitiesAfter(@Param("afterId") Long afterId, Pageable pageable);
+
+    // Only replaces the hash it was computed from, so a concurrent password change wins.
+    @Transactional
+    @Modifying
+    @Query("UPDATE User u SET u.password = :newPassword WHERE u.email = :email AND u.password = :oldPassword")
+    int updatePassword(@Param("email") String email,
+                       @Param("oldPassword") String oldPassword,
+                       @Param("newPassword") String newPassword);
 }
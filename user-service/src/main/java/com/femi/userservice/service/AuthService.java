@@ -1,18 +1,23 @@
 package com.femi.userservice.service;
 
 import com.femi.userservice.config.JwtService;
+import com.femi.userservice.config.VerifiedTokenCache;
 import com.femi.userservice.dto.*;
 import com.femi.userservice.exceptions.InvalidCredentialsException;
+import com.femi.userservice.exceptions.PasswordHashingBusyException;
 import com.femi.userservice.exceptions.UserAlreadyExistsException;
+import com.femi.userservice.mapper.UserMapper;
 import com.femi.userservice.model.Role;
 import com.femi.userservice.model.User;
 import com.femi.userservice.repository.UserRepository;
+import com.femi.userservice.uniqueness.UserIdentityFilter;
 import jakarta.persistence.EntityNotFoundException;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
-import org.modelmapper.ModelMapper;
+import org.springframework.dao.DataIntegrityViolationException;
 import org.springframework.security.authentication.AuthenticationManager;
 import org.springframework.security.authentication.BadCredentialsException;
+import org.springframework.security.authentication.InternalAuthenticationServiceException;
 import org.springframework.security.authentication.UsernamePasswordAuthenticationToken;
 import org.springframework.security.core.Authentication;
 import org.springframework.security.core.GrantedAuthority;
@@ -21,6 +26,7 @@ import org.springframework.security.crypto.password.PasswordEncoder;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 
+import java.util.Collection;
 import java.util.List;
 import java.util.Objects;
 
@@ -34,16 +40,18 @@ public class AuthService {
     private final PasswordEncoder passwordEncoder;
     private final JwtService jwtService;
     private final AuthenticationManager authenticationManager;
-    private final ModelMapper modelMapper;
+    private final UserMapper userMapper;
+    private final VerifiedTokenCache verifiedTokenCache;
+    private final UserIdentityFilter userIdentityFilter;
 
     public AuthResponseDTO register(RegisterRequestDTO request) {
         log.info("Registering new user with email: {}", request.getEmail());
 
-        if(userRepository.existsByEmail(request.getEmail())) {
+        String taken = takenField(null, request.getEmail(), request.getUsername());
+        if ("email".equals(taken)) {
             throw new UserAlreadyExistsException("User with email " + request.getEmail() + " already exists");
         }
-
-        if (userRepository.existsByUsername(request.getUsername())) {
+        if ("username".equals(taken)) {
             throw new UserAlreadyExistsException("User with username " + request.getUsername() + " already exists");
         }
 
@@ -54,7 +62,7 @@ public class AuthService {
                 .role(Role.USER)
                 .build();
 
-        User savedUser = userRepository.save(user);
+        User savedUser = saveUnique(user);
 
         String jwtToken = jwtService.generateToken(savedUser);
 
@@ -62,7 +70,7 @@ public class AuthService {
 
         return AuthResponseDTO.builder()
                 .accessToken(jwtToken)
-                .user(modelMapper.map(savedUser, UserDTO.class))
+                .user(userMapper.toDto(savedUser))
                 .message("User registered successfully")
                 .build();
     }
@@ -87,12 +95,17 @@ public class AuthService {
 
             return AuthResponseDTO.builder()
                     .accessToken(jwtToken)
-                    .user(modelMapper.map(user, UserDTO.class))
+                    .user(userMapper.toDto(user))
                     .message("Login successful")
                     .build();
         } catch (BadCredentialsException e) {
             log.warn("Invalid login attempt for email: {}", request.getEmail());
             throw new InvalidCredentialsException("Invalid email or password");
+        } catch (InternalAuthenticationServiceException e) {
+            if (e.getCause() instanceof PasswordHashingBusyException busy) {
+                throw busy;
+            }
+            throw e;
         }
     }
 
@@ -100,10 +113,12 @@ public class AuthService {
         String email = authentication.getName();
         log.info("Fetching user with email: {}", email);
 
-        User user = userRepository.findByEmail(email)
-                .orElseThrow(() -> new UsernameNotFoundException("User not found"));
+        User user = authentication.getPrincipal() instanceof User principal
+                ? principal
+                : userRepository.findByEmail(email)
+                        .orElseThrow(() -> new UsernameNotFoundException("User not found"));
 
-        UserDTO userDto = modelMapper.map(user, UserDTO.class);
+        UserDTO userDto = userMapper.toDto(user);
 
         List<String> roles = authentication.getAuthorities().stream()
                 .map(GrantedAuthority::getAuthority)
@@ -135,24 +150,30 @@ public class AuthService {
         User user = userRepository.findByEmail(email)
                 .orElseThrow(() -> new UsernameNotFoundException("User not found"));
 
-        if(request.getUsername() != null && !request.getUsername().equals(user.getUsername())) {
-            if (userRepository.existsByUsername(request.getUsername())) {
-                throw new UserAlreadyExistsException("Username already exists");
-            }
-            user.setUsername(request.getUsername());
-        }
+        String newUsername = request.getUsername() != null && !request.getUsername().equals(user.getUsername())
+                ? request.getUsername() : null;
+        String newEmail = request.getEmail() != null && !request.getEmail().equals(user.getEmail())
+                ? request.getEmail() : null;
 
-        if (request.getEmail() != null && !request.getEmail().equals(user.getEmail())) {
-            if (userRepository.existsByEmail(request.getEmail())) {
-                throw new UserAlreadyExistsException("Email already exists");
-            }
-            user.setEmail(request.getEmail());
+        String taken = takenField(user.getId(), newEmail, newUsername);
+        if ("username".equals(taken)) {
+            throw new UserAlreadyExistsException("Username already exists");
+        }
+        if ("email".equals(taken)) {
+            throw new UserAlreadyExistsException("Email already exists");
+        }
+        if (newUsername != null) {
+            user.setUsername(newUsername);
+        }
+        if (newEmail != null) {
+            user.setEmail(newEmail);
         }
 
-        User updatedUser = userRepository.save(user);
+        User updatedUser = saveUnique(user);
+        verifiedTokenCache.invalidateUser(email);
         log.info("User profile updated for ID: {}", updatedUser.getId());
 
-        return modelMapper.map(updatedUser, UserDTO.class);
+        return userMapper.toDto(updatedUser);
     }
 
     public void changePassword(Authentication authentication, ChangePasswordRequestDTO request) {
@@ -166,30 +187,32 @@ public class AuthService {
 
         user.setPassword(passwordEncoder.encode(request.getNewPassword()));
         userRepository.save(user);
+        verifiedTokenCache.invalidateUser(email);
 
         log.info("Password changed successfully for user ID: {}", user.getId());
     }
 
     public List<UserDTO> getAllUsers() {
-        return userRepository.findAll()
-                .stream()
-                .map(user -> modelMapper.map(user, UserDTO.class))
-                .toList();
+        return userMapper.toDtos(userRepository.findAll());
     }
 
     public UserDTO getUserById(Long id) {
         User user = userRepository.findById(String.valueOf(id))
                 .orElseThrow(() -> new EntityNotFoundException("User not found with ID: " + id));
 
-        return modelMapper.map(user, UserDTO.class);
+        return userMapper.toDto(user);
+    }
+
+    public List<UserDTO> getUsersByIds(Collection<Long> ids) {
+        return userMapper.toDtos(userRepository.findByIdIn(ids));
     }
 
     public void deleteUser(Long id) {
-        if (!userRepository.existsById(String.valueOf(id))) {
-            throw new EntityNotFoundException("User not found with ID: " + id);
-        }
+        User user = userRepository.findById(String.valueOf(id))
+                .orElseThrow(() -> new EntityNotFoundException("User not found with ID: " + id));
 
-        userRepository.deleteById(String.valueOf(id));
+        userRepository.delete(user);
+        verifiedTokenCache.invalidateUser(user.getEmail());
         log.info("User deleted with ID: {}", id);
     }
 
@@ -199,8 +222,41 @@ public class AuthService {
 
         user.setRole(role);
         User updatedUser = userRepository.save(user);
+        verifiedTokenCache.invalidateUser(updatedUser.getEmail());
 
         log.info("User role updated to {} for user ID: {}", role, id);
-        return modelMapper.map(updatedUser, UserDTO.class);
+        return userMapper.toDto(updatedUser);
+    }
+
+    private String takenField(Long userId, String email, String username) {
+        String checkEmail = email != null && userIdentityFilter.mightContainEmail(email) ? email : null;
+        String checkUsername = username != null && userIdentityFilter.mightContainUsername(username) ? username : null;
+        if (checkEmail == null && checkUsername == null) {
+            return null;
+        }
+
+        String taken = null;
+        for (UserIdentityDTO existing : userRepository.findIdentityConflicts(checkEmail, checkUsername)) {
+            if (existing.getId().equals(userId)) {
+                continue;
+            }
+            if (checkEmail != null && existing.getEmail().equalsIgnoreCase(checkEmail)) {
+                return "email";
+            }
+            taken = "username";
+        }
+        return taken;
+    }
+
+    // The unique constraints have the final say: the filter does not see users created on
+    // other instances, and two requests can race past the check.
+    private User saveUnique(User user) {
+        try {
+            User saved = userRepository.saveAndFlush(user);
+            userIdentityFilter.add(saved.getEmail(), saved.getActualUsername());
+            return saved;
+        } catch (DataIntegrityViolationException e) {
+            throw new UserAlreadyExistsException("A user with this email or username already exists");
+        }
     }
 }
@@ -0,0 +1,121 @@
+package com.femi.userservice.uniqueness;
+
+import com.femi.userservice.dto.UserIdentityDTO;
+import com.femi.userservice.repository.UserRepository;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.stereotype.Component;
+
+import java.util.List;
+import java.util.Locale;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicLong;
+
+@Component
+@Slf4j
+public class UserIdentityFilter {
+
+    private final UserRepository userRepository;
+    private final long minCapacity;
+    private final double falsePositiveRate;
+    private final int batchSize;
+    private final AtomicBoolean rebuilding = new AtomicBoolean();
+    private volatile Filters current;
+    private volatile Filters next;
+
+    public UserIdentityFilter(UserRepository userRepository,
+                              @Value("${user.identity-filter.min-capacity:100000}") long minCapacity,
+                              @Value("${user.identity-filter.false-positive-rate:0.01}") double falsePositiveRate,
+                              @Value("${user.identity-filter.batch-size:5000}") int batchSize) {
+        this.userRepository = userRepository;
+        this.minCapacity = minCapacity;
+        this.falsePositiveRate = falsePositiveRate;
+        this.batchSize = batchSize;
+    }
+
+    @EventListener(ApplicationReadyEvent.class)
+    public void load() {
+        if (rebuilding.compareAndSet(false, true)) {
+            rebuild();
+        }
+    }
+
+    public boolean mightContainEmail(String email) {
+        Filters filters = current;
+        return filters == null || filters.emails.mightContain(normalize(email));
+    }
+
+    public boolean mightContainUsername(String username) {
+        Filters filters = current;
+        return filters == null || filters.usernames.mightContain(normalize(username));
+    }
+
+    public void add(String email, String username) {
+        Filters filters = current;
+        if (filters != null) {
+            filters.add(email, username);
+            if (filters.count.get() > filters.capacity && rebuilding.compareAndSet(false, true)) {
+                Thread.ofVirtual().name("user-identity-filter-rebuild").start(this::rebuild);
+            }
+        }
+        Filters building = next;
+        if (building != null) {
+            building.add(email, username);
+        }
+    }
+
+    private void rebuild() {
+        try {
+            long users = userRepository.count();
+            Filters building = new Filters(Math.max(minCapacity, users * 2), falsePositiveRate);
+            next = building;
+            Long afterId = 0L;
+            List<UserIdentityDTO> page;
+            do {
+                page = userRepository.findIdentitiesAfter(afterId, PageRequest.of(0, batchSize));
+                for (UserIdentityDTO identity : page) {
+                    building.add(identity.getEmail(), identity.getUsername());
+                    afterId = identity.getId();
+                }
+            } while (page.size() == batchSize);
+            current = building;
+            log.info("Loaded {} users into the identity filter ({} bits, {} hashes each)",
+                    building.count.get(), building.emails.bitSize(), building.emails.hashCount());
+        } catch (RuntimeException e) {
+            log.warn("Could not load the identity filter; uniqueness checks will query the database: {}", e.getMessage());
+        } finally {
+            next = null;
+            rebuilding.set(false);
+        }
+    }
+
+    private static String normalize(String value) {
+        return value.toLowerCase(Locale.ROOT);
+    }
+
+    private static final class Filters {
+        private final BloomFilter emails;
+        private final BloomFilter usernames;
+        private final long capacity;
+        private final AtomicLong count = new AtomicLong();
+
+        private Filters(long capacity, double falsePositiveRate) {
+            this.capacity = capacity;
+            this.emails = new BloomFilter(capacity, falsePositiveRate);
+            this.usernames = new BloomFilter(capacity, falsePositiveRate);
+        }
+
+        private void add(String email, String username) {
+            if (email != null) {
+                emails.put(normalize(email));
+            }
+            if (username != null) {
+                usernames.put(normalize(username));
+            }
+            count.incrementAndGet();
+        }
+    }
+}
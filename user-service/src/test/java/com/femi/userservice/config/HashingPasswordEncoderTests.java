@@ -0,0 +1,77 @@
+package com.femi.userservice.config;
+
+import com.femi.userservice.exceptions.PasswordHashingBusyException;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.Test;
+import org.springframework.security.crypto.bcrypt.BCryptPasswordEncoder;
+import org.springframework.security.crypto.password.PasswordEncoder;
+
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class HashingPasswordEncoderTests {
+
+    @Test
+    void legacyAndWeakerHashesMatchAndAreFlaggedForUpgrade() {
+        try (HashingPasswordEncoder encoder = new ApplicationConfiguration(null).passwordEncoder(5, 1, 4, new SimpleMeterRegistry())) {
+            String legacy = new BCryptPasswordEncoder(4).encode("secret");
+            String weaker = "{bcrypt}" + new BCryptPasswordEncoder(4).encode("secret");
+            String current = encoder.encode("secret");
+
+            assertTrue(current.startsWith("{bcrypt}$2a$05$"));
+            assertTrue(encoder.matches("secret", legacy));
+            assertTrue(encoder.matches("secret", weaker));
+            assertTrue(encoder.matches("secret", current));
+            assertFalse(encoder.matches("wrong", current));
+
+            assertTrue(encoder.upgradeEncoding(legacy));
+            assertTrue(encoder.upgradeEncoding(weaker));
+            assertFalse(encoder.upgradeEncoding(current));
+        }
+    }
+
+    @Test
+    void rejectsWorkOnceTheQueueIsFull() throws Exception {
+        SimpleMeterRegistry meterRegistry = new SimpleMeterRegistry();
+        CountDownLatch started = new CountDownLatch(1);
+        CountDownLatch release = new CountDownLatch(1);
+        PasswordEncoder blocking = new PasswordEncoder() {
+            @Override
+            public String encode(CharSequence rawPassword) {
+                started.countDown();
+                try {
+                    release.await();
+                } catch (InterruptedException e) {
+                    Thread.currentThread().interrupt();
+                }
+                return rawPassword.toString();
+            }
+
+            @Override
+            public boolean matches(CharSequence rawPassword, String encodedPassword) {
+                return rawPassword.toString().equals(encodedPassword);
+            }
+        };
+
+        try (HashingPasswordEncoder encoder = new HashingPasswordEncoder(blocking, 1, 1, meterRegistry)) {
+            Thread running = Thread.ofVirtual().start(() -> encoder.encode("a"));
+            assertTrue(started.await(5, TimeUnit.SECONDS));
+            Thread queued = Thread.ofVirtual().start(() -> encoder.encode("b"));
+            while (encoder.queueDepth() < 1) {
+                Thread.onSpinWait();
+            }
+
+            assertThrows(PasswordHashingBusyException.class, () -> encoder.encode("c"));
+            assertEquals(1, meterRegistry.get("password.hashing.queue.depth").gauge().value());
+            assertEquals(1, meterRegistry.get("password.hashing.rejected").counter().count());
+
+            release.countDown();
+            running.join();
+            queued.join();
+            assertEquals("d", encoder.encode("d"));
+            assertEquals(3, meterRegistry.get("password.hashing").tag("operation", "encode").timer().count());
+        }
+    }
+}
@@ -0,0 +1,56 @@
+package com.femi.userservice.config;
+
+import com.femi.userservice.model.Role;
+import com.femi.userservice.model.User;
+import io.jsonwebtoken.Claims;
+import io.jsonwebtoken.Jwts;
+import org.junit.jupiter.api.Test;
+
+import java.util.Date;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class VerifiedTokenCacheTests {
+
+    private final User user = User.builder().id(1L).email("jane@example.com").username("jane").role(Role.USER).build();
+
+    @Test
+    void entryNeverOutlivesTokenExpiry() {
+        VerifiedTokenCache cache = new VerifiedTokenCache(100, 60_000);
+        long exp = System.currentTimeMillis() + 5_000;
+
+        cache.put("token", claims(exp), user);
+
+        VerifiedTokenCache.Entry entry = cache.get("token");
+        assertNotNull(entry);
+        assertSame(user, entry.userDetails());
+        assertTrue(entry.expiresAt() <= exp);
+    }
+
+    @Test
+    void expiredTokensAreNotCached() {
+        VerifiedTokenCache cache = new VerifiedTokenCache(100, 60_000);
+
+        cache.put("token", claims(System.currentTimeMillis() - 1), user);
+
+        assertNull(cache.get("token"));
+    }
+
+    @Test
+    void staysWithinMaxSizeAndSupportsUserInvalidation() {
+        VerifiedTokenCache cache = new VerifiedTokenCache(50, 60_000);
+        long exp = System.currentTimeMillis() + 60_000;
+
+        for (int i = 0; i < 500; i++) {
+            cache.put("token-" + i, claims(exp), user);
+        }
+        assertTrue(cache.size() <= 50);
+
+        cache.invalidateUser("jane@example.com");
+        assertEquals(0, cache.size());
+    }
+
+    private Claims claims(long expiration) {
+        return Jwts.claims().subject(user.getEmail()).expiration(new Date(expiration)).build();
+    }
+}
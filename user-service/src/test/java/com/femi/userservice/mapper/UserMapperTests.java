@@ -0,0 +1,63 @@
+package com.femi.userservice.mapper;
+
+import com.femi.userservice.dto.UserDTO;
+import com.femi.userservice.model.Role;
+import com.femi.userservice.model.User;
+import org.junit.jupiter.api.Test;
+import org.mapstruct.factory.Mappers;
+
+import java.time.LocalDateTime;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class UserMapperTests {
+
+    private final UserMapper userMapper = Mappers.getMapper(UserMapper.class);
+
+    @Test
+    void mapsEveryField() {
+        LocalDateTime createdAt = LocalDateTime.of(2025, 1, 1, 10, 0);
+        LocalDateTime updatedAt = createdAt.plusDays(1);
+        User user = User.builder()
+                .id(7L)
+                .username("jane")
+                .email("jane@example.com")
+                .password("secret")
+                .role(Role.ADMIN)
+                .createdAt(createdAt)
+                .updatedAt(updatedAt)
+                .build();
+
+        UserDTO dto = userMapper.toDto(user);
+
+        assertEquals(7L, dto.getId());
+        assertEquals("jane", dto.getUsername());
+        assertEquals("jane@example.com", dto.getEmail());
+        assertEquals(Role.ADMIN, dto.getRole());
+        assertEquals(createdAt, dto.getCreatedAt());
+        assertEquals(updatedAt, dto.getUpdatedAt());
+    }
+
+    @Test
+    void handlesNulls() {
+        assertNull(userMapper.toDto(null));
+        assertNull(userMapper.toDtos(null));
+
+        UserDTO dto = userMapper.toDto(new User());
+        assertNull(dto.getId());
+        assertNull(dto.getRole());
+    }
+
+    @Test
+    void mapsListsInOrder() {
+        List<User> users = List.of(
+                User.builder().id(1L).username("a").email("a@example.com").role(Role.USER).build(),
+                User.builder().id(2L).username("b").email("b@example.com").role(Role.USER).build());
+
+        List<UserDTO> dtos = userMapper.toDtos(users);
+
+        assertEquals(List.of(1L, 2L), dtos.stream().map(UserDTO::getId).toList());
+        assertEquals(List.of("a", "b"), dtos.stream().map(UserDTO::getUsername).toList());
+    }
+}
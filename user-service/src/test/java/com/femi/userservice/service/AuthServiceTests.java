@@ -0,0 +1,58 @@
+package com.femi.userservice.service;
+
+import com.femi.userservice.config.JwtService;
+import com.femi.userservice.config.VerifiedTokenCache;
+import com.femi.userservice.dto.RegisterRequestDTO;
+import com.femi.userservice.dto.UserIdentityDTO;
+import com.femi.userservice.exceptions.UserAlreadyExistsException;
+import com.femi.userservice.mapper.UserMapper;
+import com.femi.userservice.model.User;
+import com.femi.userservice.repository.UserRepository;
+import com.femi.userservice.uniqueness.UserIdentityFilter;
+import org.junit.jupiter.api.Test;
+import org.mapstruct.factory.Mappers;
+import org.springframework.security.authentication.AuthenticationManager;
+import org.springframework.security.crypto.password.PasswordEncoder;
+
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.*;
+import static org.mockito.Mockito.*;
+
+class AuthServiceTests {
+
+    private final UserRepository userRepository = mock(UserRepository.class);
+    private final UserIdentityFilter userIdentityFilter = new UserIdentityFilter(userRepository, 1000, 0.01, 100);
+    private final AuthService authService = new AuthService(userRepository, mock(PasswordEncoder.class),
+            mock(JwtService.class), mock(AuthenticationManager.class), Mappers.getMapper(UserMapper.class),
+            mock(VerifiedTokenCache.class), userIdentityFilter);
+
+    @Test
+    void registeredUsernameIsCheckedOnTheNextRegistration() {
+        when(userRepository.findIdentitiesAfter(anyLong(), any())).thenReturn(List.of());
+        userIdentityFilter.load();
+        when(userRepository.saveAndFlush(any(User.class))).thenAnswer(invocation -> {
+            User user = invocation.getArgument(0);
+            user.setId(1L);
+            return user;
+        });
+        authService.register(request("alice", "alice@example.com"));
+        when(userRepository.findIdentityConflicts(null, "alice"))
+                .thenReturn(List.of(new UserIdentityDTO(1L, "alice@example.com", "alice")));
+
+        UserAlreadyExistsException e = assertThrows(UserAlreadyExistsException.class,
+                () -> authService.register(request("alice", "other@example.com")));
+
+        assertTrue(e.getMessage().contains("username alice"));
+        verify(userRepository, times(1)).saveAndFlush(any(User.class));
+    }
+
+    private static RegisterRequestDTO request(String username, String email) {
+        return RegisterRequestDTO.builder()
+                .username(username)
+                .email(email)
+                .password("Secret123")
+                .build();
+    }
+}